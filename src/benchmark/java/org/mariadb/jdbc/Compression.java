@@ -0,0 +1,82 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.mariadb.jdbc.client.socket.CompressInputStream;
+import org.mariadb.jdbc.client.socket.CompressOutputStream;
+import org.mariadb.jdbc.util.MutableInt;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compression layer cost for typical exchange sizes, without server: one packet is compressed then
+ * decompressed through the same per-connection streams.
+ *
+ * <p>to be run with gc profiler: java -jar target/benchmarks.jar Compression -prof gc
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 10, timeUnit = TimeUnit.SECONDS, time = 1)
+@Measurement(iterations = 10, timeUnit = TimeUnit.SECONDS, time = 1)
+@Fork(value = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class Compression {
+
+  // small query, result of some rows, big result set
+  @Param({"1000", "16000", "1000000"})
+  int size;
+
+  // text data compress well, random data like compressed blob doesn't
+  @Param({"text", "random"})
+  String content;
+
+  @Param({"1", "6"})
+  int compressionLevel;
+
+  private byte[] data;
+  private byte[] result;
+  private ByteArrayOutputStream socketOut;
+  private CompressOutputStream out;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    data = new byte[size];
+    if ("text".equals(content)) {
+      String text = "mariadb connector compression benchmark,";
+      for (int i = 0; i < size; i++) data[i] = (byte) text.charAt(i % text.length());
+    } else {
+      new Random(0).nextBytes(data);
+    }
+    result = new byte[size];
+    socketOut = new ByteArrayOutputStream(size + 1024);
+    out = new CompressOutputStream(socketOut, new MutableInt(), compressionLevel);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    out.close();
+  }
+
+  @Benchmark
+  public byte[] roundTrip() throws IOException {
+    socketOut.reset();
+    out.write(data, 0, size);
+    out.flush();
+
+    CompressInputStream in =
+        new CompressInputStream(
+            new ByteArrayInputStream(socketOut.toByteArray()), new MutableInt());
+    int off = 0;
+    while (off < size) {
+      off += in.read(result, off, size - off);
+    }
+    in.close();
+    return result;
+  }
+}
@@ -0,0 +1,174 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Connection creation time, through a local proxy adding simulated network round-trip time: each
+ * exchange in connection initialization costs one RTT.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, timeUnit = TimeUnit.SECONDS, time = 1)
+@Measurement(iterations = 5, timeUnit = TimeUnit.SECONDS, time = 1)
+@Fork(value = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class Connect_Latency {
+
+  public final String host = System.getProperty("TEST_HOST", "localhost");
+  public final int port = Integer.parseInt(System.getProperty("TEST_PORT", "3306"));
+  public final String username = System.getProperty("TEST_USERNAME", "root");
+  public final String password = System.getProperty("TEST_PASSWORD", "");
+  public final String database = System.getProperty("TEST_DATABASE", "testj");
+
+  // simulated round-trip time in milliseconds
+  @Param({"0", "2", "10"})
+  int rtt;
+
+  // time zone option add server time zone check
+  @Param({"", "UTC"})
+  String timezone;
+
+  private DelayProxy proxy;
+  private String url;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    proxy = new DelayProxy(host, port, rtt / 2);
+    url =
+        String.format(
+            "jdbc:mariadb://localhost:%s/%s?user=%s&password=%s&sslMode=DISABLED%s",
+            proxy.getLocalPort(),
+            database,
+            username,
+            password,
+            timezone.isEmpty() ? "" : "&timezone=" + timezone);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    proxy.close();
+  }
+
+  @Benchmark
+  public boolean connect() throws SQLException {
+    try (Connection connection = DriverManager.getConnection(url)) {
+      return connection.isClosed();
+    }
+  }
+
+  /** TCP proxy delaying data in each direction, without limiting throughput. */
+  private static final class DelayProxy implements Runnable {
+    private final ServerSocket serverSocket;
+    private final String host;
+    private final int port;
+    private final long delayNanos;
+
+    DelayProxy(String host, int port, int delayMillis) throws IOException {
+      this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+      this.host = host;
+      this.port = port;
+      this.delayNanos = TimeUnit.MILLISECONDS.toNanos(delayMillis);
+      Thread thread = new Thread(this, "delay-proxy");
+      thread.setDaemon(true);
+      thread.start();
+    }
+
+    int getLocalPort() {
+      return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (true) {
+          Socket client = serverSocket.accept();
+          Socket server = new Socket(host, port);
+          client.setTcpNoDelay(true);
+          server.setTcpNoDelay(true);
+          forward(client, server);
+          forward(server, client);
+        }
+      } catch (IOException e) {
+        // proxy closed
+      }
+    }
+
+    private void forward(Socket from, Socket to) throws IOException {
+      BlockingQueue<Chunk> queue = new LinkedBlockingQueue<>();
+      InputStream in = from.getInputStream();
+      OutputStream out = to.getOutputStream();
+
+      Thread reader =
+          new Thread(
+              () -> {
+                byte[] buf = new byte[16384];
+                try {
+                  int len;
+                  while ((len = in.read(buf)) > 0) {
+                    queue.put(new Chunk(System.nanoTime() + delayNanos, Arrays.copyOf(buf, len)));
+                  }
+                } catch (IOException | InterruptedException e) {
+                  // closed
+                }
+                queue.add(new Chunk(0, null));
+              });
+      Thread writer =
+          new Thread(
+              () -> {
+                try {
+                  while (true) {
+                    Chunk chunk = queue.take();
+                    if (chunk.data == null) break;
+                    long wait = chunk.sendTime - System.nanoTime();
+                    if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+                    out.write(chunk.data);
+                    out.flush();
+                  }
+                } catch (IOException | InterruptedException e) {
+                  // closed
+                }
+                try {
+                  from.close();
+                  to.close();
+                } catch (IOException e) {
+                  // eat
+                }
+              });
+      reader.setDaemon(true);
+      writer.setDaemon(true);
+      reader.start();
+      writer.start();
+    }
+
+    void close() throws IOException {
+      serverSocket.close();
+    }
+  }
+
+  private static final class Chunk {
+    private final long sendTime;
+    private final byte[] data;
+
+    Chunk(long sendTime, byte[] data) {
+      this.sendTime = sendTime;
+      this.data = data;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Compare allocation when reading 10000 rows in a complete result (each row copied to its own
+ * array) and in a forward-only streaming result (rows are views in receive buffer).
+ *
+ * <p>to be run with gc profiler: java -jar target/benchmarks.jar Select_10000_Rows_Allocation -prof
+ * gc
+ */
+public class Select_10000_Rows_Allocation extends Common {
+  private static final String sql =
+      "SELECT lpad(conv(floor(rand()*pow(36,8)), 10, 36), 8, 0) as rnd_str_8 FROM seq_1_to_10000";
+
+  @Param({"0", "100"})
+  int fetchSize;
+
+  @Benchmark
+  public int text(MyState state) throws Throwable {
+    return run(state.connectionText);
+  }
+
+  @Benchmark
+  public int binary(MyState state) throws Throwable {
+    return run(state.connectionBinary);
+  }
+
+  private int run(Connection con) throws Throwable {
+    try (PreparedStatement st = con.prepareStatement(sql)) {
+      st.setFetchSize(fetchSize);
+      ResultSet rs = st.executeQuery();
+      int len = 0;
+      while (rs.next()) {
+        len += rs.getString(1).length();
+      }
+      return len;
+    }
+  }
+}
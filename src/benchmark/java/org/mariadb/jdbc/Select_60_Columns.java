@@ -0,0 +1,81 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/** Wide rows read out of order, like ORM access by column name. */
+public class Select_60_Columns extends Common {
+  private static final int COLUMNS = 60;
+  private static final String sql;
+  private static final int[] reverseOrder = new int[COLUMNS];
+  private static final int[] randomOrder = new int[COLUMNS];
+
+  static {
+    StringBuilder sb = new StringBuilder("SELECT ");
+    for (int i = 1; i <= COLUMNS; i++) {
+      if (i > 1) sb.append(',');
+      // alternate integer and string columns
+      if (i % 2 == 0) {
+        sb.append("seq * ").append(i).append(" as col").append(i);
+      } else {
+        sb.append("repeat('a', ").append(i % 20).append(") as col").append(i);
+      }
+    }
+    sql = sb.append(" FROM seq_1_to_100").toString();
+
+    List<Integer> indexes = new ArrayList<>();
+    for (int i = 1; i <= COLUMNS; i++) {
+      reverseOrder[i - 1] = COLUMNS - i + 1;
+      indexes.add(i);
+    }
+    Collections.shuffle(indexes, new Random(42));
+    for (int i = 0; i < COLUMNS; i++) randomOrder[i] = indexes.get(i);
+  }
+
+  @Benchmark
+  public int textReverse(MyState state) throws Throwable {
+    return run(state.connectionText, reverseOrder);
+  }
+
+  @Benchmark
+  public int textRandom(MyState state) throws Throwable {
+    return run(state.connectionText, randomOrder);
+  }
+
+  @Benchmark
+  public int binaryReverse(MyState state) throws Throwable {
+    return run(state.connectionBinary, reverseOrder);
+  }
+
+  @Benchmark
+  public int binaryRandom(MyState state) throws Throwable {
+    return run(state.connectionBinary, randomOrder);
+  }
+
+  private int run(Connection con, int[] order) throws Throwable {
+    try (PreparedStatement st = con.prepareStatement(sql)) {
+      ResultSet rs = st.executeQuery();
+      int res = 0;
+      while (rs.next()) {
+        for (int index : order) {
+          if (index % 2 == 0) {
+            res += rs.getInt(index);
+          } else {
+            res += rs.getString(index).length();
+          }
+        }
+      }
+      return res;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.mariadb.jdbc.client.result.ArrowExporter;
+import org.openjdk.jmh.annotations.*;
+
+/** Numeric and string extract: plain result set loop, compared to export to arrow vectors. */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, timeUnit = TimeUnit.SECONDS, time = 1)
+@Measurement(iterations = 5, timeUnit = TimeUnit.SECONDS, time = 1)
+@Fork(value = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class Select_Arrow_Export {
+  private static final String sql =
+      "SELECT seq, seq * 1.5e0, IF(seq % 10 = 0, NULL, seq % 1000), CONCAT('name', seq)"
+          + " FROM seq_1_to_100000";
+
+  public final String host = System.getProperty("TEST_HOST", "localhost");
+  public final int port = Integer.parseInt(System.getProperty("TEST_PORT", "3306"));
+  public final String username = System.getProperty("TEST_USERNAME", "root");
+  public final String password = System.getProperty("TEST_PASSWORD", "");
+  public final String database = System.getProperty("TEST_DATABASE", "testj");
+
+  @Param({"false", "true"})
+  boolean useServerPrepStmts;
+
+  private Connection connection;
+  private BufferAllocator allocator;
+
+  @Setup(Level.Trial)
+  public void setup() throws SQLException {
+    connection =
+        DriverManager.getConnection(
+            String.format(
+                "jdbc:mariadb://%s:%s/%s?user=%s&password=%s&sslMode=DISABLED&useServerPrepStmts=%s",
+                host, port, database, username, password, useServerPrepStmts));
+    allocator = new RootAllocator();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    connection.close();
+    allocator.close();
+  }
+
+  @Benchmark
+  public long resultSetLoop() throws SQLException {
+    long sum = 0;
+    try (PreparedStatement st = connection.prepareStatement(sql)) {
+      ResultSet rs = st.executeQuery();
+      while (rs.next()) {
+        Object id = rs.getObject(1);
+        Object amount = rs.getObject(2);
+        Object value = rs.getObject(3);
+        Object name = rs.getObject(4);
+        sum += id.hashCode() + amount.hashCode() + (value == null ? 0 : 1) + name.hashCode();
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long arrow() throws SQLException {
+    long rows = 0;
+    try (PreparedStatement st = connection.prepareStatement(sql)) {
+      ResultSet rs = st.executeQuery();
+      try (ArrowExporter exporter = new ArrowExporter(rs, allocator)) {
+        while (exporter.loadNextBatch()) {
+          rows += exporter.getVectorSchemaRoot().getRowCount();
+        }
+      }
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,45 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Allocation when reading 10000 DATE values in text protocol, as LocalDate and as Date, values
+ * being read from fixed offsets of row bytes.
+ *
+ * <p>to be run with gc profiler: java -jar target/benchmarks.jar Select_Date_Allocation -prof gc
+ */
+public class Select_Date_Allocation extends Common {
+  private static final String sql =
+      "SELECT DATE('2021-01-01') + INTERVAL seq DAY FROM seq_1_to_10000";
+
+  @Benchmark
+  public long localDate(MyState state) throws Throwable {
+    try (PreparedStatement st = state.connectionText.prepareStatement(sql)) {
+      ResultSet rs = st.executeQuery();
+      long sum = 0;
+      while (rs.next()) {
+        sum += rs.getObject(1, LocalDate.class).getDayOfMonth();
+      }
+      return sum;
+    }
+  }
+
+  @Benchmark
+  public long date(MyState state) throws Throwable {
+    try (PreparedStatement st = state.connectionText.prepareStatement(sql)) {
+      ResultSet rs = st.executeQuery();
+      long sum = 0;
+      while (rs.next()) {
+        sum += rs.getDate(1).getTime();
+      }
+      return sum;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Allocation when reading 10000 DATETIME values in text protocol, as LocalDateTime and as
+ * Timestamp, values being read from fixed offsets of row bytes.
+ *
+ * <p>to be run with gc profiler: java -jar target/benchmarks.jar Select_Datetime_Allocation -prof
+ * gc
+ */
+public class Select_Datetime_Allocation extends Common {
+  private static final String sql =
+      "SELECT TIMESTAMP('2021-01-01 10:00:00.123456') + INTERVAL seq SECOND FROM seq_1_to_10000";
+
+  @Benchmark
+  public long localDateTime(MyState state) throws Throwable {
+    try (PreparedStatement st = state.connectionText.prepareStatement(sql)) {
+      ResultSet rs = st.executeQuery();
+      long sum = 0;
+      while (rs.next()) {
+        sum += rs.getObject(1, LocalDateTime.class).getSecond();
+      }
+      return sum;
+    }
+  }
+
+  @Benchmark
+  public long timestamp(MyState state) throws Throwable {
+    try (PreparedStatement st = state.connectionText.prepareStatement(sql)) {
+      ResultSet rs = st.executeQuery();
+      long sum = 0;
+      while (rs.next()) {
+        sum += rs.getTimestamp(1).getNanos();
+      }
+      return sum;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Allocation when reading 10000 DECIMAL values, values of at most 18 digits being read from row
+ * bytes into a long unscaled value.
+ *
+ * <p>to be run with gc profiler: java -jar target/benchmarks.jar Select_Decimal_Allocation -prof gc
+ */
+public class Select_Decimal_Allocation extends Common {
+  private static final String sql = "SELECT CAST(seq * 1.01 AS DECIMAL(18,2)) FROM seq_1_to_10000";
+
+  @Benchmark
+  public long text(MyState state) throws Throwable {
+    return run(state.connectionText);
+  }
+
+  @Benchmark
+  public long binary(MyState state) throws Throwable {
+    return run(state.connectionBinary);
+  }
+
+  private long run(Connection con) throws Throwable {
+    try (PreparedStatement st = con.prepareStatement(sql)) {
+      ResultSet rs = st.executeQuery();
+      long sum = 0;
+      while (rs.next()) {
+        BigDecimal value = rs.getBigDecimal(1);
+        sum += value.scale();
+      }
+      return sum;
+    }
+  }
+}
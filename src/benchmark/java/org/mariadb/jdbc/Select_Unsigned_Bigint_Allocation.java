@@ -0,0 +1,45 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc;
+
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Allocation when reading 10000 BIGINT UNSIGNED values in text protocol, as long and as BigInteger.
+ *
+ * <p>to be run with gc profiler: java -jar target/benchmarks.jar Select_Unsigned_Bigint_Allocation
+ * -prof gc
+ */
+public class Select_Unsigned_Bigint_Allocation extends Common {
+  // seq column is BIGINT UNSIGNED
+  private static final String sql = "SELECT seq * 1000000 FROM seq_1_to_10000";
+
+  @Benchmark
+  public long getLong(MyState state) throws Throwable {
+    try (PreparedStatement st = state.connectionText.prepareStatement(sql)) {
+      ResultSet rs = st.executeQuery();
+      long sum = 0;
+      while (rs.next()) {
+        sum += rs.getLong(1);
+      }
+      return sum;
+    }
+  }
+
+  @Benchmark
+  public long getBigInteger(MyState state) throws Throwable {
+    try (PreparedStatement st = state.connectionText.prepareStatement(sql)) {
+      ResultSet rs = st.executeQuery();
+      long sum = 0;
+      while (rs.next()) {
+        sum += rs.getObject(1, BigInteger.class).bitLength();
+      }
+      return sum;
+    }
+  }
+}
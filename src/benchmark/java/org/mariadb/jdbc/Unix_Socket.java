@@ -0,0 +1,114 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import javax.net.SocketFactory;
+import org.mariadb.jdbc.client.socket.UnixDomainSocket;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Unix domain socket transport comparison: JDK native socket channel (java 16+) against JNA
+ * implementation. JNA path is forced through a socket factory returning JNA socket.
+ *
+ * <p>socket path is set with TEST_UNIX_SOCKET system property: java -DTEST_UNIX_SOCKET=/path -jar
+ * target/benchmarks.jar Unix_Socket
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 10, timeUnit = TimeUnit.SECONDS, time = 1)
+@Measurement(iterations = 10, timeUnit = TimeUnit.SECONDS, time = 1)
+@Fork(value = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class Unix_Socket {
+
+  private static final String SOCKET_PATH =
+      System.getProperty("TEST_UNIX_SOCKET", "/var/run/mysqld/mysqld.sock");
+
+  public final String username = System.getProperty("TEST_USERNAME", "root");
+  public final String password = System.getProperty("TEST_PASSWORD", "");
+  public final String database = System.getProperty("TEST_DATABASE", "testj");
+
+  @Param({"native", "jna"})
+  String implementation;
+
+  private Connection connection;
+
+  @Setup(Level.Trial)
+  public void setup() throws SQLException {
+    String transport =
+        "native".equals(implementation)
+            ? "localSocket=" + SOCKET_PATH
+            : "socketFactory=" + JnaSocketFactory.class.getName();
+    connection =
+        DriverManager.getConnection(
+            String.format(
+                "jdbc:mariadb://localhost/%s?user=%s&password=%s&sslMode=DISABLED&%s",
+                database, username, password, transport));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    connection.close();
+  }
+
+  @Benchmark
+  public int select1() throws SQLException {
+    try (Statement st = connection.createStatement()) {
+      ResultSet rs = st.executeQuery("select 1");
+      rs.next();
+      return rs.getInt(1);
+    }
+  }
+
+  @Benchmark
+  public int select1000Rows() throws SQLException {
+    try (Statement st = connection.createStatement()) {
+      ResultSet rs = st.executeQuery("select repeat('a', 100) from seq_1_to_1000");
+      int size = 0;
+      while (rs.next()) size += rs.getString(1).length();
+      return size;
+    }
+  }
+
+  /** Socket factory creating JNA unix domain socket, ignoring connection host. */
+  public static class JnaSocketFactory extends SocketFactory {
+
+    @Override
+    public Socket createSocket() throws IOException {
+      return new UnixDomainSocket(SOCKET_PATH);
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+      throw new IOException("not supported");
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort)
+        throws IOException {
+      throw new IOException("not supported");
+    }
+
+    @Override
+    public Socket createSocket(InetAddress host, int port) throws IOException {
+      throw new IOException("not supported");
+    }
+
+    @Override
+    public Socket createSocket(
+        InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+      throw new IOException("not supported");
+    }
+  }
+}
@@ -0,0 +1,88 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Thousands of concurrent tasks executing a query through a pooled datasource, each task on its own
+ * virtual thread, compared to a platform thread pool of pool size.
+ *
+ * <p>Virtual threads require java 21: executor is created by reflection. Carrier pinning can be
+ * checked with: java -Djdk.tracePinnedThreads=full -jar target/benchmarks.jar Virtual_Threads
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 10, timeUnit = TimeUnit.SECONDS, time = 1)
+@Measurement(iterations = 10, timeUnit = TimeUnit.SECONDS, time = 1)
+@Fork(value = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class Virtual_Threads {
+
+  private static final int TASKS = 5_000;
+  private static final int POOL_SIZE = 32;
+
+  public final String host = System.getProperty("TEST_HOST", "localhost");
+  public final int port = Integer.parseInt(System.getProperty("TEST_PORT", "3306"));
+  public final String username = System.getProperty("TEST_USERNAME", "root");
+  public final String password = System.getProperty("TEST_PASSWORD", "");
+  public final String database = System.getProperty("TEST_DATABASE", "testj");
+
+  @Param({"virtual", "platform"})
+  String threadType;
+
+  private MariaDbPoolDataSource pool;
+  private ExecutorService executor;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    pool =
+        new MariaDbPoolDataSource(
+            String.format(
+                "jdbc:mariadb://%s:%s/%s?user=%s&password=%s&sslMode=DISABLED&maxPoolSize=%s",
+                host, port, database, username, password, POOL_SIZE));
+    if ("virtual".equals(threadType)) {
+      executor =
+          (ExecutorService)
+              Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } else {
+      executor = Executors.newFixedThreadPool(POOL_SIZE);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdown();
+    pool.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TASKS)
+  public int run() throws Exception {
+    List<Future<Integer>> futures = new ArrayList<>(TASKS);
+    for (int i = 0; i < TASKS; i++) {
+      futures.add(executor.submit(this::query));
+    }
+    int sum = 0;
+    for (Future<Integer> future : futures) sum += future.get();
+    return sum;
+  }
+
+  private int query() throws Exception {
+    try (Connection conn = pool.getConnection()) {
+      try (Statement stmt = conn.createStatement()) {
+        ResultSet rs = stmt.executeQuery("select 1");
+        rs.next();
+        return rs.getInt(1);
+      }
+    }
+  }
+}
@@ -8,6 +8,8 @@ import java.sql.*;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.locks.ReentrantLock;
 import org.mariadb.jdbc.client.result.CompleteResult;
 import org.mariadb.jdbc.client.result.Result;
@@ -80,6 +82,21 @@ public class ClientPreparedStatement extends BasePreparedStatement {
     }
   }
 
+  /**
+   * Send query immediately, response being read asynchronously.
+   *
+   * @param executor executor that will read response
+   * @return future completed with query results
+   * @throws SQLException if statement is closed or a parameter is not set
+   */
+  public CompletableFuture<List<Completion>> executeAsync(Executor executor) throws SQLException {
+    checkNotClosed();
+    validParameters();
+    return con.getClient()
+        .executeAsync(
+            new QueryWithParametersPacket(preSqlCmd(), parser, parameters), this, executor);
+  }
+
   private List<Completion> executeInternalPreparedBatch() throws SQLException {
     checkNotClosed();
     long serverCapabilities = con.getContext().getServerCapabilities();
@@ -66,6 +66,8 @@ public class Configuration {
   private boolean autocommit = true;
   private TransactionIsolation transactionIsolation = TransactionIsolation.REPEATABLE_READ;
   private int defaultFetchSize = 0;
+  private boolean streamingPrefetch = false;
+  private boolean stringDictionary = false;
   private int maxQuerySizeToLog = 1024;
   private String geometryDefaultType = null;
   private String restrictedAuth = null;
@@ -84,6 +86,7 @@ public class Configuration {
   private String localSocketAddress = null;
   private int socketTimeout = 0;
   private boolean useReadAheadInput = true;
+  private boolean useNioTransport = false;
   private String tlsSocketType = null;
 
   // SSL
@@ -94,17 +97,21 @@ public class Configuration {
   private String keyStoreType = null;
   private String enabledSslCipherSuites = null;
   private String enabledSslProtocolSuites = null;
+  private boolean cacheSslContext = false;
 
   // protocol
   private boolean allowMultiQueries = false;
   private boolean allowLocalInfile = false;
   private boolean useCompression = false;
+  private int compressionLevel = 6;
   private boolean useAffectedRows = false;
   private boolean useBulkStmts = true;
 
   // prepare
   private boolean cachePrepStmts = true;
   private int prepStmtCacheSize = 250;
+  private boolean internColumnMetadata = false;
+  private int serverProfileCacheTtl = 0;
   private boolean useServerPrepStmts = false;
 
   // authentication
@@ -123,6 +130,7 @@ public class Configuration {
 
   // HA options
   private int retriesAllDown = 120;
+  private int parallelConnectDelay = 0;
   private String galeraAllowedState = null;
   private boolean transactionReplay = false;
 
@@ -155,6 +163,8 @@ public class Configuration {
       boolean autocommit,
       TransactionIsolation transactionIsolation,
       int defaultFetchSize,
+      boolean streamingPrefetch,
+      boolean stringDictionary,
       int maxQuerySizeToLog,
       String geometryDefaultType,
       String restrictedAuth,
@@ -170,6 +180,7 @@ public class Configuration {
       String localSocketAddress,
       int socketTimeout,
       boolean useReadAheadInput,
+      boolean useNioTransport,
       String tlsSocketType,
       SslMode sslMode,
       String serverSslCert,
@@ -178,13 +189,17 @@ public class Configuration {
       String keyStoreType,
       String enabledSslCipherSuites,
       String enabledSslProtocolSuites,
+      boolean cacheSslContext,
       boolean allowMultiQueries,
       boolean allowLocalInfile,
       boolean useCompression,
+      int compressionLevel,
       boolean useAffectedRows,
       boolean useBulkStmts,
       boolean cachePrepStmts,
       int prepStmtCacheSize,
+      boolean internColumnMetadata,
+      int serverProfileCacheTtl,
       boolean useServerPrepStmts,
       CredentialPlugin credentialType,
       String sessionVariables,
@@ -197,6 +212,7 @@ public class Configuration {
       boolean includeInnodbStatusInDeadlockExceptions,
       boolean includeThreadDumpInDeadlockExceptions,
       int retriesAllDown,
+      int parallelConnectDelay,
       String galeraAllowedState,
       boolean transactionReplay,
       boolean pool,
@@ -219,6 +235,8 @@ public class Configuration {
     this.autocommit = autocommit;
     this.transactionIsolation = transactionIsolation;
     this.defaultFetchSize = defaultFetchSize;
+    this.streamingPrefetch = streamingPrefetch;
+    this.stringDictionary = stringDictionary;
     this.maxQuerySizeToLog = maxQuerySizeToLog;
     this.geometryDefaultType = geometryDefaultType;
     this.restrictedAuth = restrictedAuth;
@@ -234,6 +252,7 @@ public class Configuration {
     this.localSocketAddress = localSocketAddress;
     this.socketTimeout = socketTimeout;
     this.useReadAheadInput = useReadAheadInput;
+    this.useNioTransport = useNioTransport;
     this.tlsSocketType = tlsSocketType;
     this.sslMode = sslMode;
     this.serverSslCert = serverSslCert;
@@ -242,13 +261,17 @@ public class Configuration {
     this.keyStoreType = keyStoreType;
     this.enabledSslCipherSuites = enabledSslCipherSuites;
     this.enabledSslProtocolSuites = enabledSslProtocolSuites;
+    this.cacheSslContext = cacheSslContext;
     this.allowMultiQueries = allowMultiQueries;
     this.allowLocalInfile = allowLocalInfile;
     this.useCompression = useCompression;
+    this.compressionLevel = compressionLevel;
     this.useAffectedRows = useAffectedRows;
     this.useBulkStmts = useBulkStmts;
     this.cachePrepStmts = cachePrepStmts;
     this.prepStmtCacheSize = prepStmtCacheSize;
+    this.internColumnMetadata = internColumnMetadata;
+    this.serverProfileCacheTtl = serverProfileCacheTtl;
     this.useServerPrepStmts = useServerPrepStmts;
     this.credentialType = credentialType;
     this.sessionVariables = sessionVariables;
@@ -261,6 +284,7 @@ public class Configuration {
     this.includeInnodbStatusInDeadlockExceptions = includeInnodbStatusInDeadlockExceptions;
     this.includeThreadDumpInDeadlockExceptions = includeThreadDumpInDeadlockExceptions;
     this.retriesAllDown = retriesAllDown;
+    this.parallelConnectDelay = parallelConnectDelay;
     this.galeraAllowedState = galeraAllowedState;
     this.transactionReplay = transactionReplay;
     this.pool = pool;
@@ -283,6 +307,7 @@ public class Configuration {
       String user,
       String password,
       String enabledSslProtocolSuites,
+      Boolean cacheSslContext,
       String socketFactory,
       Integer connectTimeout,
       String pipe,
@@ -297,6 +322,7 @@ public class Configuration {
       Boolean allowMultiQueries,
       Boolean allowLocalInfile,
       Boolean useCompression,
+      Integer compressionLevel,
       Boolean blankTableNameMeta,
       String credentialType,
       String sslMode,
@@ -308,6 +334,8 @@ public class Configuration {
       String timezone,
       Boolean dumpQueriesOnException,
       Integer prepStmtCacheSize,
+      Boolean internColumnMetadata,
+      Integer serverProfileCacheTtl,
       Boolean useAffectedRows,
       Boolean useServerPrepStmts,
       String connectionAttributes,
@@ -317,9 +345,12 @@ public class Configuration {
       Boolean includeThreadDumpInDeadlockExceptions,
       String servicePrincipalName,
       Integer defaultFetchSize,
+      Boolean streamingPrefetch,
+      Boolean stringDictionary,
       String tlsSocketType,
       Integer maxQuerySizeToLog,
       Integer retriesAllDown,
+      Integer parallelConnectDelay,
       String galeraAllowedState,
       Boolean pool,
       String poolName,
@@ -336,6 +367,7 @@ public class Configuration {
       String keyStorePassword,
       String keyStoreType,
       Boolean useReadAheadInput,
+      Boolean useNioTransport,
       Boolean cachePrepStmts,
       Boolean transactionReplay,
       String geometryDefaultType,
@@ -350,6 +382,7 @@ public class Configuration {
     this.user = user;
     this.password = password;
     this.enabledSslProtocolSuites = enabledSslProtocolSuites;
+    if (cacheSslContext != null) this.cacheSslContext = cacheSslContext;
     this.socketFactory = socketFactory;
     if (connectTimeout != null) this.connectTimeout = connectTimeout;
     this.pipe = pipe;
@@ -364,6 +397,7 @@ public class Configuration {
     if (allowMultiQueries != null) this.allowMultiQueries = allowMultiQueries;
     if (allowLocalInfile != null) this.allowLocalInfile = allowLocalInfile;
     if (useCompression != null) this.useCompression = useCompression;
+    if (compressionLevel != null) this.compressionLevel = compressionLevel;
     if (blankTableNameMeta != null) this.blankTableNameMeta = blankTableNameMeta;
     if (this.credentialType != null
         && this.credentialType.mustUseSsl()
@@ -381,6 +415,8 @@ public class Configuration {
     this.timezone = timezone;
     if (dumpQueriesOnException != null) this.dumpQueriesOnException = dumpQueriesOnException;
     if (prepStmtCacheSize != null) this.prepStmtCacheSize = prepStmtCacheSize;
+    if (internColumnMetadata != null) this.internColumnMetadata = internColumnMetadata;
+    if (serverProfileCacheTtl != null) this.serverProfileCacheTtl = serverProfileCacheTtl;
     if (useAffectedRows != null) this.useAffectedRows = useAffectedRows;
     if (useServerPrepStmts != null) this.useServerPrepStmts = useServerPrepStmts;
     this.connectionAttributes = connectionAttributes;
@@ -392,9 +428,12 @@ public class Configuration {
       this.includeThreadDumpInDeadlockExceptions = includeThreadDumpInDeadlockExceptions;
     if (servicePrincipalName != null) this.servicePrincipalName = servicePrincipalName;
     if (defaultFetchSize != null) this.defaultFetchSize = defaultFetchSize;
+    if (streamingPrefetch != null) this.streamingPrefetch = streamingPrefetch;
+    if (stringDictionary != null) this.stringDictionary = stringDictionary;
     if (tlsSocketType != null) this.tlsSocketType = tlsSocketType;
     if (maxQuerySizeToLog != null) this.maxQuerySizeToLog = maxQuerySizeToLog;
     if (retriesAllDown != null) this.retriesAllDown = retriesAllDown;
+    if (parallelConnectDelay != null) this.parallelConnectDelay = parallelConnectDelay;
     if (galeraAllowedState != null) this.galeraAllowedState = galeraAllowedState;
     if (pool != null) this.pool = pool;
     if (poolName != null) this.poolName = poolName;
@@ -413,6 +452,7 @@ public class Configuration {
     if (serverRsaPublicKeyFile != null) this.serverRsaPublicKeyFile = serverRsaPublicKeyFile;
     if (allowPublicKeyRetrieval != null) this.allowPublicKeyRetrieval = allowPublicKeyRetrieval;
     if (useReadAheadInput != null) this.useReadAheadInput = useReadAheadInput;
+    if (useNioTransport != null) this.useNioTransport = useNioTransport;
     if (cachePrepStmts != null) this.cachePrepStmts = cachePrepStmts;
     if (transactionReplay != null) this.transactionReplay = transactionReplay;
     if (geometryDefaultType != null) this.geometryDefaultType = geometryDefaultType;
@@ -438,6 +478,13 @@ public class Configuration {
     // option value verification
     // *************************************************************
 
+    if (this.compressionLevel < 0 || this.compressionLevel > 9) {
+      throw new SQLException(
+          String.format(
+              "Value for compressionLevel must be in 0-9 range (value is %s)",
+              this.compressionLevel));
+    }
+
     // int fields must all be positive
     Field[] fields = Configuration.class.getDeclaredFields();
     try {
@@ -669,6 +716,8 @@ public class Configuration {
         this.autocommit,
         this.transactionIsolation,
         this.defaultFetchSize,
+        this.streamingPrefetch,
+        this.stringDictionary,
         this.maxQuerySizeToLog,
         this.geometryDefaultType,
         this.restrictedAuth,
@@ -684,6 +733,7 @@ public class Configuration {
         this.localSocketAddress,
         this.socketTimeout,
         this.useReadAheadInput,
+        this.useNioTransport,
         this.tlsSocketType,
         this.sslMode,
         this.serverSslCert,
@@ -692,13 +742,17 @@ public class Configuration {
         this.keyStoreType,
         this.enabledSslCipherSuites,
         this.enabledSslProtocolSuites,
+        this.cacheSslContext,
         this.allowMultiQueries,
         this.allowLocalInfile,
         this.useCompression,
+        this.compressionLevel,
         this.useAffectedRows,
         this.useBulkStmts,
         this.cachePrepStmts,
         this.prepStmtCacheSize,
+        this.internColumnMetadata,
+        this.serverProfileCacheTtl,
         this.useServerPrepStmts,
         this.credentialType,
         this.sessionVariables,
@@ -711,6 +765,7 @@ public class Configuration {
         this.includeInnodbStatusInDeadlockExceptions,
         this.includeThreadDumpInDeadlockExceptions,
         this.retriesAllDown,
+        this.parallelConnectDelay,
         this.galeraAllowedState,
         this.transactionReplay,
         this.pool,
@@ -773,6 +828,10 @@ public class Configuration {
     return enabledSslProtocolSuites;
   }
 
+  public boolean cacheSslContext() {
+    return cacheSslContext;
+  }
+
   public String socketFactory() {
     return socketFactory;
   }
@@ -834,6 +893,10 @@ public class Configuration {
     return useCompression;
   }
 
+  public int compressionLevel() {
+    return compressionLevel;
+  }
+
   public boolean blankTableNameMeta() {
     return blankTableNameMeta;
   }
@@ -874,6 +937,14 @@ public class Configuration {
     return prepStmtCacheSize;
   }
 
+  public boolean internColumnMetadata() {
+    return internColumnMetadata;
+  }
+
+  public int serverProfileCacheTtl() {
+    return serverProfileCacheTtl;
+  }
+
   public boolean useAffectedRows() {
     return useAffectedRows;
   }
@@ -910,6 +981,14 @@ public class Configuration {
     return defaultFetchSize;
   }
 
+  public boolean streamingPrefetch() {
+    return streamingPrefetch;
+  }
+
+  public boolean stringDictionary() {
+    return stringDictionary;
+  }
+
   public Properties nonMappedOptions() {
     return nonMappedOptions;
   }
@@ -926,6 +1005,10 @@ public class Configuration {
     return retriesAllDown;
   }
 
+  public int parallelConnectDelay() {
+    return parallelConnectDelay;
+  }
+
   public String galeraAllowedState() {
     return galeraAllowedState;
   }
@@ -974,6 +1057,10 @@ public class Configuration {
     return useReadAheadInput;
   }
 
+  public boolean useNioTransport() {
+    return useNioTransport;
+  }
+
   public boolean cachePrepStmts() {
     return cachePrepStmts;
   }
@@ -1158,6 +1245,8 @@ public class Configuration {
     private String timezone;
     private Boolean autocommit;
     private Integer defaultFetchSize;
+    private Boolean streamingPrefetch;
+    private Boolean stringDictionary;
     private Integer maxQuerySizeToLog;
     private String geometryDefaultType;
     private String restrictedAuth;
@@ -1176,6 +1265,7 @@ public class Configuration {
     private String localSocketAddress;
     private Integer socketTimeout;
     private Boolean useReadAheadInput;
+    private Boolean useNioTransport;
     private String tlsSocketType;
 
     // SSL
@@ -1186,17 +1276,21 @@ public class Configuration {
     private String keyStoreType;
     private String enabledSslCipherSuites;
     private String enabledSslProtocolSuites;
+    private Boolean cacheSslContext;
 
     // protocol
     private Boolean allowMultiQueries;
     private Boolean allowLocalInfile;
     private Boolean useCompression;
+    private Integer compressionLevel;
     private Boolean useAffectedRows;
     private Boolean useBulkStmts;
 
     // prepare
     private Boolean cachePrepStmts;
     private Integer prepStmtCacheSize;
+    private Boolean internColumnMetadata;
+    private Integer serverProfileCacheTtl;
     private Boolean useServerPrepStmts;
 
     // authentication
@@ -1215,6 +1309,7 @@ public class Configuration {
 
     // HA options
     private Integer retriesAllDown;
+    private Integer parallelConnectDelay;
     private String galeraAllowedState;
     private Boolean transactionReplay;
 
@@ -1281,6 +1376,18 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Share SSL context between connections using identical TLS configuration, permitting TLS
+     * session resumption. Certificates and key stores are then loaded once
+     *
+     * @param cacheSslContext value
+     * @return this {@link Builder}
+     */
+    public Builder cacheSslContext(Boolean cacheSslContext) {
+      this.cacheSslContext = cacheSslContext;
+      return this;
+    }
+
     public Builder database(String database) {
       this.database = database;
       return this;
@@ -1497,6 +1604,18 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Compression level, in 0-9 range (0 = no compression, 1 = fastest to 9 = best compression),
+     * used when option `useCompression` is set. Default: 6
+     *
+     * @param compressionLevel value
+     * @return this {@link Builder}
+     */
+    public Builder compressionLevel(Integer compressionLevel) {
+      this.compressionLevel = compressionLevel;
+      return this;
+    }
+
     public Builder blankTableNameMeta(Boolean blankTableNameMeta) {
       this.blankTableNameMeta = blankTableNameMeta;
       return this;
@@ -1552,6 +1671,31 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Share column metadata of identical result columns between connections, using a JVM-wide
+     * bounded cache
+     *
+     * @param internColumnMetadata value
+     * @return this {@link Builder}
+     */
+    public Builder internColumnMetadata(Boolean internColumnMetadata) {
+      this.internColumnMetadata = internColumnMetadata;
+      return this;
+    }
+
+    /**
+     * Cache server values retrieved at connection (max allowed packet, wait timeout, time zone) per
+     * host for this number of seconds, avoiding their retrieval on following connections. 0
+     * disables cache
+     *
+     * @param serverProfileCacheTtl value
+     * @return this {@link Builder}
+     */
+    public Builder serverProfileCacheTtl(Integer serverProfileCacheTtl) {
+      this.serverProfileCacheTtl = serverProfileCacheTtl;
+      return this;
+    }
+
     public Builder useAffectedRows(Boolean useAffectedRows) {
       this.useAffectedRows = useAffectedRows;
       return this;
@@ -1599,6 +1743,31 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * When streaming a forward-only result-set (fetch size set), read next batch of rows in
+     * background while application reads current one. Default: false.
+     *
+     * @param streamingPrefetch value
+     * @return this {@link Builder}
+     */
+    public Builder streamingPrefetch(Boolean streamingPrefetch) {
+      this.streamingPrefetch = streamingPrefetch;
+      return this;
+    }
+
+    /**
+     * Cache decoded values of short string columns per result-set column, repeated values returning
+     * the same String instance. Cache is disabled for a column when less than half of values are
+     * repeated. Default: false.
+     *
+     * @param stringDictionary value
+     * @return this {@link Builder}
+     */
+    public Builder stringDictionary(Boolean stringDictionary) {
+      this.stringDictionary = stringDictionary;
+      return this;
+    }
+
     public Builder tlsSocketType(String tlsSocketType) {
       this.tlsSocketType = nullOrEmpty(tlsSocketType);
       return this;
@@ -1614,6 +1783,19 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * When using multiple hosts, start connection attempts in parallel: next host attempt starts
+     * after this number of milliseconds, or as soon as previous attempt fails. First connection to
+     * complete is kept, others being closed. 0 disables parallel attempts
+     *
+     * @param parallelConnectDelay value
+     * @return this {@link Builder}
+     */
+    public Builder parallelConnectDelay(Integer parallelConnectDelay) {
+      this.parallelConnectDelay = parallelConnectDelay;
+      return this;
+    }
+
     public Builder galeraAllowedState(String galeraAllowedState) {
       this.galeraAllowedState = nullOrEmpty(galeraAllowedState);
       return this;
@@ -1674,6 +1856,18 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Indicate to use a non-blocking java.nio SocketChannel transport with pooled direct buffers
+     * instead of blocking socket streams. Reading is then interruptible. Default: false
+     *
+     * @param useNioTransport value
+     * @return this {@link Builder}
+     */
+    public Builder useNioTransport(Boolean useNioTransport) {
+      this.useNioTransport = useNioTransport;
+      return this;
+    }
+
     public Builder cachePrepStmts(Boolean cachePrepStmts) {
       this.cachePrepStmts = cachePrepStmts;
       return this;
@@ -1693,6 +1887,7 @@ public class Configuration {
               this.user,
               this.password,
               this.enabledSslProtocolSuites,
+              this.cacheSslContext,
               this.socketFactory,
               this.connectTimeout,
               this.pipe,
@@ -1707,6 +1902,7 @@ public class Configuration {
               this.allowMultiQueries,
               this.allowLocalInfile,
               this.useCompression,
+              this.compressionLevel,
               this.blankTableNameMeta,
               this.credentialType,
               this.sslMode,
@@ -1718,6 +1914,8 @@ public class Configuration {
               this.timezone,
               this.dumpQueriesOnException,
               this.prepStmtCacheSize,
+              this.internColumnMetadata,
+              this.serverProfileCacheTtl,
               this.useAffectedRows,
               this.useServerPrepStmts,
               this.connectionAttributes,
@@ -1727,9 +1925,12 @@ public class Configuration {
               this.includeThreadDumpInDeadlockExceptions,
               this.servicePrincipalName,
               this.defaultFetchSize,
+              this.streamingPrefetch,
+              this.stringDictionary,
               this.tlsSocketType,
               this.maxQuerySizeToLog,
               this.retriesAllDown,
+              this.parallelConnectDelay,
               this.galeraAllowedState,
               this.pool,
               this.poolName,
@@ -1746,6 +1947,7 @@ public class Configuration {
               this.keyStorePassword,
               this.keyStoreType,
               this.useReadAheadInput,
+              this.useNioTransport,
               this.cachePrepStmts,
               this.transactionReplay,
               this.geometryDefaultType,
@@ -4,21 +4,34 @@
 
 package org.mariadb.jdbc;
 
+import java.io.InputStream;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.sql.*;
 import org.mariadb.jdbc.client.Client;
 import org.mariadb.jdbc.client.ClientImpl;
 import org.mariadb.jdbc.client.context.Context;
+import org.mariadb.jdbc.client.result.CompleteResult;
+import org.mariadb.jdbc.client.result.Result;
 import org.mariadb.jdbc.message.client.ChangeDbPacket;
+import org.mariadb.jdbc.message.client.ClientMessage;
 import org.mariadb.jdbc.message.client.PingPacket;
 import org.mariadb.jdbc.message.client.QueryPacket;
 import org.mariadb.jdbc.message.client.ResetPacket;
+import org.mariadb.jdbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.jdbc.message.server.Completion;
+import org.mariadb.jdbc.message.server.OkPacket;
+import org.mariadb.jdbc.pool.PoolThreadFactory;
 import org.mariadb.jdbc.util.NativeSql;
 import org.mariadb.jdbc.util.constants.Capabilities;
 import org.mariadb.jdbc.util.constants.ConnectionState;
@@ -46,6 +59,7 @@ public class Connection implements java.sql.Connection {
   private final boolean canUseServerMaxRows;
   private final int defaultFetchSize;
   private MariaDbPoolConnection poolConnection;
+  private Function<String, InputStream> localInfileInputStreamProvider;
 
   public Connection(Configuration conf, ReentrantLock lock, Client client) {
     this.conf = conf;
@@ -138,6 +152,77 @@ public class Connection implements java.sql.Connection {
         defaultFetchSize);
   }
 
+  /**
+   * Execute a query asynchronously. Query is sent immediately, without waiting for previous
+   * asynchronous commands responses, permitting to have many queries in flight on the connection.
+   * Responses are read in sending order by a driver thread, which completes returned future. Any
+   * synchronous command first reads pending responses.
+   *
+   * @param sql query, with '?' placeholders for parameters
+   * @param parameters parameters values
+   * @return future completed with query result set, or an empty result set if query doesn't return
+   *     any
+   */
+  public CompletableFuture<ResultSet> executeQueryAsync(String sql, Object... parameters) {
+    return executeAsync(sql, parameters)
+        .thenApply(
+            completions -> {
+              Completion completion = completions.get(0);
+              if (completion instanceof Result) return (Result) completion;
+              return new CompleteResult(
+                  new ColumnDefinitionPacket[0], new byte[0][], client.getContext());
+            });
+  }
+
+  /**
+   * Execute an update asynchronously. See {@link #executeQueryAsync(String, Object...)}.
+   *
+   * @param sql command, with '?' placeholders for parameters
+   * @param parameters parameters values
+   * @return future completed with affected rows
+   */
+  public CompletableFuture<Long> executeUpdateAsync(String sql, Object... parameters) {
+    return executeAsync(sql, parameters)
+        .thenApply(
+            completions -> {
+              Completion completion = completions.get(0);
+              if (completion instanceof Result) {
+                throw new CompletionException(
+                    exceptionFactory.create(
+                        "the given SQL statement produces an unexpected ResultSet object",
+                        "HY000"));
+              }
+              return ((OkPacket) completion).getAffectedRows();
+            });
+  }
+
+  private CompletableFuture<List<Completion>> executeAsync(String sql, Object[] parameters) {
+    try {
+      checkNotClosed();
+      // statement is only used to send command: closing it doesn't affect pending result
+      try (ClientPreparedStatement prep =
+          new ClientPreparedStatement(
+              NativeSql.parse(sql, client.getContext()),
+              this,
+              lock,
+              canUseServerTimeout,
+              canUseServerMaxRows,
+              Statement.NO_GENERATED_KEYS,
+              ResultSet.TYPE_FORWARD_ONLY,
+              ResultSet.CONCUR_READ_ONLY,
+              0)) {
+        for (int i = 0; i < parameters.length; i++) {
+          prep.setObject(i + 1, parameters[i]);
+        }
+        return prep.executeAsync(AsyncReader.EXECUTOR);
+      }
+    } catch (SQLException e) {
+      CompletableFuture<List<Completion>> future = new CompletableFuture<>();
+      future.completeExceptionally(e);
+      return future;
+    }
+  }
+
   @Override
   public CallableStatement prepareCall(String sql) throws SQLException {
     return prepareCall(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
@@ -288,6 +373,11 @@ public class Connection implements java.sql.Connection {
 
   @Override
   public int getTransactionIsolation() throws SQLException {
+    // server notifies isolation changes
+    if (client.getContext().isTransactionIsolationTracked()) {
+      checkNotClosed();
+      return client.getContext().getTransactionIsolationLevel();
+    }
 
     String sql = "SELECT @@tx_isolation";
 
@@ -802,7 +892,27 @@ public class Connection implements java.sql.Connection {
                     && getContext().getVersion().versionGreaterOrEqual(10, 2, 22)));
 
     if (useComReset) {
-      client.execute(ResetPacket.INSTANCE);
+      if (getContext().isTransactionIsolationTracked()) {
+        // session variables, including tracking, are reset to global values: tracking is set
+        // again with configured isolation, as for a new connection, in the same exchange
+        client.executePipeline(
+            new ClientMessage[] {
+              ResetPacket.INSTANCE,
+              new QueryPacket(
+                  "set session_track_system_variables='autocommit,tx_isolation', tx_isolation='"
+                      + conf.transactionIsolation().getValue()
+                      + "'")
+            },
+            null,
+            0,
+            0L,
+            ResultSet.CONCUR_READ_ONLY,
+            ResultSet.TYPE_FORWARD_ONLY,
+            false);
+        getContext().setTransactionIsolationLevel(conf.transactionIsolation().getLevel());
+      } else {
+        client.execute(ResetPacket.INSTANCE);
+      }
     }
 
     // in transaction => rollback
@@ -834,10 +944,34 @@ public class Connection implements java.sql.Connection {
     }
 
     client.reset();
+    localInfileInputStreamProvider = null;
 
     clearWarnings();
   }
 
+  /**
+   * Set a provider of data for LOAD DATA LOCAL INFILE commands, in place of reading the file
+   * requested by the server. Provider is called with requested file name, and may return null to
+   * read the file. Returned stream is closed once sent. Option `allowLocalInfile` must be enabled.
+   *
+   * @param provider data provider, null to remove it
+   */
+  public void setLocalInfileInputStreamProvider(Function<String, InputStream> provider) {
+    this.localInfileInputStreamProvider = provider;
+  }
+
+  /**
+   * Get data to send for a LOAD DATA LOCAL INFILE command from provider.
+   *
+   * @param fileName file name requested by server
+   * @return data to send, null if file must be read
+   */
+  public InputStream localInfileInputStream(String fileName) {
+    return localInfileInputStreamProvider == null
+        ? null
+        : localInfileInputStreamProvider.apply(fileName);
+  }
+
   public long getThreadId() {
     return client.getContext().getThreadId();
   }
@@ -851,4 +985,10 @@ public class Connection implements java.sql.Connection {
   protected ExceptionFactory getExceptionFactory() {
     return exceptionFactory;
   }
+
+  /** Threads reading asynchronous commands responses, created on first use. */
+  private static final class AsyncReader {
+    private static final ExecutorService EXECUTOR =
+        Executors.newCachedThreadPool(new PoolThreadFactory("MariaDb-async-reader"));
+  }
 }
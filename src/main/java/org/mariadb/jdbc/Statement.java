@@ -4,6 +4,7 @@
 
 package org.mariadb.jdbc;
 
+import java.io.InputStream;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -38,6 +39,7 @@ public class Statement implements java.sql.Statement {
   protected boolean escape;
   protected List<Completion> results;
   protected Completion currResult;
+  private InputStream localInfileInputStream;
 
   public Statement(
       Connection con,
@@ -62,6 +64,33 @@ public class Statement implements java.sql.Statement {
     return con.getExceptionFactory().of(this);
   }
 
+  /**
+   * Set data to send for next LOAD DATA LOCAL INFILE command executed by this statement, in place
+   * of the file requested by the server. Stream is closed once sent. Option `allowLocalInfile` must
+   * be enabled.
+   *
+   * @param inputStream data to send
+   */
+  public void setLocalInfileInputStream(InputStream inputStream) {
+    this.localInfileInputStream = inputStream;
+  }
+
+  /**
+   * Get data to send for a LOAD DATA LOCAL INFILE command: stream set on this statement if any,
+   * else stream provided by connection.
+   *
+   * @param fileName file name requested by server
+   * @return data to send, null if file must be read
+   */
+  public InputStream nextLocalInfileInputStream(String fileName) {
+    InputStream is = localInfileInputStream;
+    if (is != null) {
+      localInfileInputStream = null;
+      return is;
+    }
+    return con.localInfileInputStream(fileName);
+  }
+
   /**
    * Executes the given SQL statement, which returns a single <code>ResultSet</code> object.
    *
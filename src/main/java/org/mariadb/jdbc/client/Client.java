@@ -6,6 +6,7 @@ package org.mariadb.jdbc.client;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import org.mariadb.jdbc.HostAddress;
 import org.mariadb.jdbc.client.context.Context;
@@ -41,6 +42,18 @@ public interface Client extends AutoCloseable {
       boolean closeOnCompletion)
       throws SQLException;
 
+  /**
+   * Send command immediately, response being read asynchronously using executor. Responses are read
+   * in sending order, and pending responses are read before any synchronous command response.
+   *
+   * @param message command
+   * @param stmt statement
+   * @param executor executor that will read response
+   * @return future completed with command results
+   */
+  CompletableFuture<List<Completion>> executeAsync(
+      ClientMessage message, org.mariadb.jdbc.Statement stmt, Executor executor);
+
   void readStreamingResults(
       List<Completion> completions,
       int fetchSize,
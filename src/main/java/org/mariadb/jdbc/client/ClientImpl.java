@@ -5,11 +5,13 @@
 package org.mariadb.jdbc.client;
 
 import java.io.BufferedInputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.ByteBuffer;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLNonTransientConnectionException;
@@ -19,8 +21,10 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.zone.ZoneRulesException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import javax.net.ssl.SSLSocket;
 import org.mariadb.jdbc.Configuration;
 import org.mariadb.jdbc.HostAddress;
@@ -42,6 +46,7 @@ import org.mariadb.jdbc.util.MutableInt;
 import org.mariadb.jdbc.util.Security;
 import org.mariadb.jdbc.util.constants.Capabilities;
 import org.mariadb.jdbc.util.constants.ServerStatus;
+import org.mariadb.jdbc.util.exceptions.AuthenticationRetryException;
 import org.mariadb.jdbc.util.exceptions.ExceptionFactory;
 import org.mariadb.jdbc.util.exceptions.MaxAllowedPacketException;
 import org.mariadb.jdbc.util.log.Logger;
@@ -49,7 +54,9 @@ import org.mariadb.jdbc.util.log.Loggers;
 
 public class ClientImpl implements Client, AutoCloseable {
   private static final Logger logger = Loggers.getLogger(ClientImpl.class);
-  private final Socket socket;
+  private Socket socket;
+  private NioChannel channel;
+  private SslChannel sslChannel;
   private final MutableInt sequence = new MutableInt();
   private final MutableInt compressionSequence = new MutableInt();
   private final ReentrantLock lock;
@@ -61,35 +68,84 @@ public class ClientImpl implements Client, AutoCloseable {
   private PacketReader reader;
   private org.mariadb.jdbc.Statement streamStmt = null;
   private ClientMessage streamMsg = null;
+  private final ArrayDeque<AsyncCommand> asyncCommands = new ArrayDeque<>();
   private int socketTimeout;
   private int waitTimeout;
   private final boolean disablePipeline;
+  private final Consumer<Closeable> socketListener;
   protected Context context;
 
   public ClientImpl(
       Configuration conf, HostAddress hostAddress, ReentrantLock lock, boolean skipPostCommands)
       throws SQLException {
+    this(conf, hostAddress, lock, skipPostCommands, null);
+  }
+
+  /**
+   * Constructor permitting to cancel connection attempt: created socket is given to
+   * `socketListener` before any exchange, so closing it from another thread makes connection fail.
+   *
+   * @param conf configuration
+   * @param hostAddress host
+   * @param lock connection lock
+   * @param skipPostCommands must skip post connection commands
+   * @param socketListener listener called with each created socket, null if not needed
+   * @throws SQLException if connection fails
+   */
+  ClientImpl(
+      Configuration conf,
+      HostAddress hostAddress,
+      ReentrantLock lock,
+      boolean skipPostCommands,
+      Consumer<Closeable> socketListener)
+      throws SQLException {
 
     this.conf = conf;
     this.lock = lock;
+    this.socketListener = socketListener;
     this.hostAddress = hostAddress;
     this.exceptionFactory = new ExceptionFactory(conf, hostAddress);
     this.disablePipeline =
         Boolean.parseBoolean(conf.nonMappedOptions().getProperty("disablePipeline", "false"));
 
+    try {
+      connect(skipPostCommands);
+    } catch (AuthenticationRetryException retryException) {
+      // cached authentication data has been rejected and invalidated: authenticate again on a new
+      // socket
+      connect(skipPostCommands);
+    }
+  }
+
+  private void connect(boolean skipPostCommands) throws SQLException {
     String host = hostAddress != null ? hostAddress.host : null;
+    this.closed = false;
     this.socketTimeout = conf.socketTimeout();
-    this.socket = ConnectionHelper.connectSocket(conf, hostAddress);
+    if (ConnectionHelper.useNioTransport(conf)) {
+      this.channel = ConnectionHelper.connectChannel(conf, hostAddress);
+      this.socket = null;
+    } else {
+      this.channel = null;
+      this.socket = ConnectionHelper.connectSocket(conf, hostAddress);
+    }
+    if (socketListener != null) socketListener.accept(channel != null ? channel : socket);
 
     try {
       // **********************************************************************
       // creating socket
       // **********************************************************************
-      OutputStream out = socket.getOutputStream();
-      InputStream in =
-          conf.useReadAheadInput()
-              ? new ReadAheadBufferedStream(socket.getInputStream())
-              : new BufferedInputStream(socket.getInputStream(), 16384);
+      OutputStream out;
+      InputStream in;
+      if (channel != null) {
+        out = new ChannelOutputStream(channel);
+        in = new ChannelInputStream(channel);
+      } else {
+        out = socket.getOutputStream();
+        in =
+            conf.useReadAheadInput()
+                ? new ReadAheadBufferedStream(socket.getInputStream())
+                : new BufferedInputStream(socket.getInputStream(), 16384);
+      }
 
       assignStream(out, in, conf, null);
 
@@ -130,17 +186,31 @@ public class ClientImpl implements Client, AutoCloseable {
       // **********************************************************************
       // changing to SSL socket if needed
       // **********************************************************************
-      SSLSocket sslSocket =
-          ConnectionHelper.sslWrapper(
-              hostAddress, socket, clientCapabilities, exchangeCharset, context, writer);
-
-      if (sslSocket != null) {
-        out = sslSocket.getOutputStream();
-        in =
-            conf.useReadAheadInput()
-                ? new ReadAheadBufferedStream(sslSocket.getInputStream())
-                : new BufferedInputStream(sslSocket.getInputStream(), 16384);
-        assignStream(out, in, conf, handshake.getThreadId());
+      if (channel != null) {
+        sslChannel =
+            ConnectionHelper.sslChannelWrapper(
+                hostAddress, channel, clientCapabilities, exchangeCharset, context, writer);
+        if (sslChannel != null) {
+          // plain streams buffers are given back, TLS channel now owns socket
+          ((ChannelOutputStream) out).release();
+          ((ChannelInputStream) in).release();
+          out = new ChannelOutputStream(sslChannel);
+          in = new ChannelInputStream(sslChannel);
+          assignStream(out, in, conf, handshake.getThreadId());
+        }
+      } else {
+        SSLSocket sslSocket =
+            ConnectionHelper.sslWrapper(
+                hostAddress, socket, clientCapabilities, exchangeCharset, context, writer);
+
+        if (sslSocket != null) {
+          out = sslSocket.getOutputStream();
+          in =
+              conf.useReadAheadInput()
+                  ? new ReadAheadBufferedStream(sslSocket.getInputStream())
+                  : new BufferedInputStream(sslSocket.getInputStream(), 16384);
+          assignStream(out, in, conf, handshake.getThreadId());
+        }
       }
 
       // **********************************************************************
@@ -164,14 +234,14 @@ public class ClientImpl implements Client, AutoCloseable {
           .encode(writer, context);
       writer.flush();
 
-      ConnectionHelper.authenticationHandler(credential, writer, reader, context);
+      ConnectionHelper.authenticationHandler(credential, writer, reader, context, hostAddress);
 
       // **********************************************************************
       // activate compression if required
       // **********************************************************************
       if ((clientCapabilities & Capabilities.COMPRESS) != 0) {
         assignStream(
-            new CompressOutputStream(out, compressionSequence),
+            new CompressOutputStream(out, compressionSequence, conf.compressionLevel()),
             new CompressInputStream(in, compressionSequence),
             conf,
             handshake.getThreadId());
@@ -181,7 +251,12 @@ public class ClientImpl implements Client, AutoCloseable {
       // post queries
       // **********************************************************************
       if (!skipPostCommands) {
-        postConnectionQueries();
+        postConnectionQueries(
+            new ServerProfile.Key(
+                hostAddress,
+                credential.getUser(),
+                (clientCapabilities & Capabilities.CLIENT_INTERACTIVE) != 0,
+                conf.sessionVariables()));
       }
 
     } catch (IOException ioException) {
@@ -189,7 +264,10 @@ public class ClientImpl implements Client, AutoCloseable {
 
       String errorMsg =
           String.format(
-              "Could not connect to %s:%s : %s", host, socket.getPort(), ioException.getMessage());
+              "Could not connect to %s:%s : %s",
+              host,
+              socket != null ? socket.getPort() : hostAddress == null ? 0 : hostAddress.port,
+              ioException.getMessage());
       if (host == null) {
         errorMsg = String.format("Could not connect to socket : %s", ioException.getMessage());
       }
@@ -223,7 +301,11 @@ public class ClientImpl implements Client, AutoCloseable {
       // eat exception
     }
     try {
-      this.socket.close();
+      if (channel != null) {
+        this.channel.close();
+      } else {
+        this.socket.close();
+      }
     } catch (IOException ee) {
       // eat exception
     }
@@ -271,21 +353,123 @@ public class ClientImpl implements Client, AutoCloseable {
     return null;
   }
 
-  private void postConnectionQueries() throws SQLException {
-    List<String> commands = new ArrayList<>();
-    String serverTz = conf.timezone() != null ? handleTimezone() : null;
+  /**
+   * Initialize session after authentication.
+   *
+   * @param profileKey server profile cache key
+   * @throws SQLException if any initialization command fails
+   */
+  private void postConnectionQueries(ServerProfile.Key profileKey) throws SQLException {
+    boolean checkTimezone = conf.timezone() != null && !"disable".equalsIgnoreCase(conf.timezone());
+
+    // server values might be known from a previous connection to the same server
+    ServerProfile profile = null;
+    if (conf.serverProfileCacheTtl() > 0 && hostAddress != null) {
+      profile = ServerProfile.get(profileKey, context);
+      if (profile != null && checkTimezone && profile.getServerTimezone() == null) profile = null;
+    }
+
+    try {
+      if (profile != null) {
+        initializeSession(false, profile.getServerTimezone(), profile);
+        return;
+      }
 
-    commands.add(createSessionVariableQuery(serverTz));
-    commands.add("SELECT @@max_allowed_packet, @@wait_timeout");
+      // server time zone is retrieved, and client time zone set, with other initial values in one
+      // exchange
+      String serverTz = initializeSession(checkTimezone, null, null);
+      if (conf.serverProfileCacheTtl() > 0 && hostAddress != null) {
+        ServerProfile.put(
+            profileKey,
+            new ServerProfile(
+                context,
+                writer.getMaxAllowedPacket(),
+                waitTimeout,
+                serverTz,
+                conf.serverProfileCacheTtl()));
+      }
+    } catch (TimezoneException timezoneException) {
+      // only time zone part failed: server time zone is retrieved the previous, slower, way
+      if (profile != null) ServerProfile.invalidate(profileKey);
+      try {
+        setTimezone(handleTimezone());
+      } catch (SQLException e) {
+        // timezone is not valid
+        throw exceptionFactory.create(
+            String.format(
+                "Setting configured timezone '%s' fail on server.\nLook at https://mariadb.com/kb/en/mysql_tzinfo_to_sql/ to load tz data on server, or set timezone=disable to disable setting client timezone.",
+                conf.timezone()),
+            "42000",
+            e instanceof TimezoneException ? (SQLException) e.getCause() : e);
+      }
+    } catch (SQLException sqlException) {
+      if (profile != null) ServerProfile.invalidate(profileKey);
+      throw exceptionFactory.create("Initialization command fail", "08000", sqlException);
+    }
+  }
+
+  /**
+   * Set client time zone if server doesn't already use the same one.
+   *
+   * @param serverTz server time zone
+   * @throws TimezoneException if setting time zone fails
+   */
+  private void setTimezone(String serverTz) throws TimezoneException {
+    String timezoneSetting = timezoneSetting(serverTz);
+    if (timezoneSetting != null) {
+      try {
+        execute(new QueryPacket("set " + timezoneSetting));
+      } catch (SQLException e) {
+        throw new TimezoneException(e);
+      }
+    }
+  }
+
+  /**
+   * Send initialization commands in one pipelined exchange: session variables, max allowed packet
+   * and wait timeout retrieval, time zone retrieval and setting, galera state validation and
+   * transaction mode. Responses are read one by one, so a failing time zone command can be told
+   * apart from other commands failure.
+   *
+   * @param retrieveTimezone retrieve server time zone. Configured time zone is then set even if
+   *     server already uses it, since server time zone is not known before exchange.
+   * @param serverTz server time zone if already known. If time zone is configured and not
+   *     retrieved, client time zone is set when different.
+   * @param profile cached server values. When set, values are not retrieved
+   * @return server time zone if retrieved
+   * @throws TimezoneException if only time zone command fails, session being otherwise initialized
+   * @throws SQLException if any other command fails
+   */
+  private String initializeSession(boolean retrieveTimezone, String serverTz, ServerProfile profile)
+      throws SQLException {
+    List<String> commands = new ArrayList<>();
+    commands.add(createSessionVariableQuery());
+    if (profile == null) commands.add("SELECT @@max_allowed_packet, @@wait_timeout");
+
+    int timezoneIndex = -1;
+    int timezoneSetIndex = -1;
+    if (retrieveTimezone) {
+      timezoneIndex = commands.size();
+      commands.add("SELECT @@time_zone, @@system_time_zone");
+    }
+    if (conf.timezone() != null && !"disable".equalsIgnoreCase(conf.timezone())) {
+      String timezoneSetting = timezoneSetting(retrieveTimezone ? null : serverTz);
+      if (timezoneSetting != null) {
+        timezoneSetIndex = commands.size();
+        commands.add("set " + timezoneSetting);
+      }
+    }
 
     List<String> galeraAllowedStates =
         conf.galeraAllowedState() == null
             ? Collections.emptyList()
             : Arrays.asList(conf.galeraAllowedState().split(","));
 
+    int galeraIndex = -1;
     if (hostAddress != null
         && Boolean.TRUE.equals(hostAddress.primary)
         && !galeraAllowedStates.isEmpty()) {
+      galeraIndex = commands.size();
       commands.add("show status like 'wsrep_local_state'");
     }
 
@@ -295,48 +479,84 @@ public class ClientImpl implements Client, AutoCloseable {
               + ((hostAddress != null && !hostAddress.primary) ? "READ ONLY" : "READ WRITE"));
     }
 
-    try {
-      List<Completion> res;
-      ClientMessage[] msgs = new ClientMessage[commands.size()];
-      for (int i = 0; i < commands.size(); i++) {
-        msgs[i] = new QueryPacket(commands.get(i));
+    ClientMessage[] msgs = new ClientMessage[commands.size()];
+    for (int i = 0; i < commands.size(); i++) {
+      msgs[i] = new QueryPacket(commands.get(i));
+    }
+    if (!disablePipeline) {
+      for (ClientMessage msg : msgs) sendQuery(msg);
+    }
+    List<Completion> res = new ArrayList<>();
+    SQLException error = null;
+    SQLException timezoneError = null;
+    for (int i = 0; i < msgs.length; i++) {
+      try {
+        if (disablePipeline) sendQuery(msgs[i]);
+        res.add(
+            readResponse(
+                    null,
+                    msgs[i],
+                    0,
+                    0L,
+                    ResultSet.CONCUR_READ_ONLY,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    false)
+                .get(0));
+      } catch (SQLException e) {
+        res.add(null);
+        if (i == timezoneIndex || i == timezoneSetIndex) {
+          if (timezoneError == null) timezoneError = e;
+        } else if (error == null) {
+          error = e;
+        }
       }
-      res =
-          executePipeline(
-              msgs, null, 0, 0L, ResultSet.CONCUR_READ_ONLY, ResultSet.TYPE_FORWARD_ONLY, false);
+    }
+    if (error != null) throw error;
+
+    // isolation has been set, further changes being notified if tracked
+    context.setTransactionIsolationLevel(conf.transactionIsolation().getLevel());
+    context.setTransactionIsolationTracked(canTrackTransactionIsolation());
 
+    if (profile != null) {
+      waitTimeout = profile.getWaitTimeout();
+      writer.setMaxAllowedPacket(profile.getMaxAllowedPacket());
+    } else {
       // read max allowed packet
       Result result = (Result) res.get(1);
       result.next();
 
       waitTimeout = Integer.parseInt(result.getString(2));
       writer.setMaxAllowedPacket(Integer.parseInt(result.getString(1)));
+    }
 
-      if (hostAddress != null
-          && Boolean.TRUE.equals(hostAddress.primary)
-          && !galeraAllowedStates.isEmpty()) {
-        ResultSet rs = (ResultSet) res.get(2);
-        rs.next();
-        if (!galeraAllowedStates.contains(rs.getString(2))) {
-          throw exceptionFactory.create(
-              String.format("fail to validate Galera state (State is %s)", rs.getString(2)));
-        }
+    if (galeraIndex != -1) {
+      ResultSet rs = (ResultSet) res.get(galeraIndex);
+      rs.next();
+      if (!galeraAllowedStates.contains(rs.getString(2))) {
+        throw exceptionFactory.create(
+            String.format("fail to validate Galera state (State is %s)", rs.getString(2)));
       }
+    }
 
-    } catch (SQLException sqlException) {
-
-      if (conf.timezone() != null && !"disable".equalsIgnoreCase(conf.timezone())) {
-        // timezone is not valid
-        throw exceptionFactory.create(
-            String.format(
-                "Setting configured timezone '%s' fail on server.\nLook at https://mariadb.com/kb/en/mysql_tzinfo_to_sql/ to load tz data on server, or set timezone=disable to disable setting client timezone.",
-                conf.timezone()));
+    if (timezoneError != null) throw new TimezoneException(timezoneError);
+    String timeZone = null;
+    if (retrieveTimezone) {
+      Result result = (Result) res.get(timezoneIndex);
+      result.next();
+      timeZone = result.getString(1);
+      if ("SYSTEM".equals(timeZone)) {
+        timeZone = result.getString(2);
       }
-      throw exceptionFactory.create("Initialization command fail", "08000", sqlException);
     }
+    return timeZone;
   }
 
-  public String createSessionVariableQuery(String serverTz) {
+  /**
+   * Create session variables initialization command.
+   *
+   * @return initialization command
+   */
+  public String createSessionVariableQuery() {
     // In JDBC, connection must start in autocommit mode
     // [CONJ-269] we cannot rely on serverStatus & ServerStatus.AUTOCOMMIT before this command to
     // avoid this command.
@@ -348,9 +568,17 @@ public class ClientImpl implements Client, AutoCloseable {
         .append(conf.autocommit() ? "1" : "0")
         .append(", sql_mode = concat(@@sql_mode,',STRICT_TRANS_TABLES')");
 
+    String isolationVariable = transactionIsolationVariable();
+
     // force schema tracking if available
     if ((context.getServerCapabilities() & Capabilities.CLIENT_SESSION_TRACK) != 0) {
       sb.append(", session_track_schema=1");
+      // track isolation changes, so getTransactionIsolation() doesn't need a query
+      if (canTrackTransactionIsolation()) {
+        sb.append(", session_track_system_variables='autocommit,")
+            .append(isolationVariable)
+            .append("'");
+      }
     }
 
     // add configured session variable if configured
@@ -358,43 +586,63 @@ public class ClientImpl implements Client, AutoCloseable {
       sb.append(",").append(Security.parseSessionVariables(conf.sessionVariables()));
     }
 
-    // force client timezone to connection to ensure result of now(), ...
-    if (conf.timezone() != null && !"disable".equalsIgnoreCase(conf.timezone())) {
-      boolean mustSetTimezone = true;
-      ZoneId clientZoneId = ZoneId.of(conf.timezone()).normalized();
+    sb.append(",")
+        .append(isolationVariable)
+        .append("='")
+        .append(conf.transactionIsolation().getValue())
+        .append("'");
+
+    return "set " + sb;
+  }
 
-      // try to avoid timezone consideration if server use the same one
+  /**
+   * Time zone session variable setting, so connection use configured client time zone.
+   *
+   * @param serverTz server time zone, null if unknown
+   * @return time zone setting, null if server already use client time zone
+   */
+  private String timezoneSetting(String serverTz) {
+    ZoneId clientZoneId = ZoneId.of(conf.timezone()).normalized();
+
+    // try to avoid timezone consideration if server use the same one
+    if (serverTz != null) {
       try {
         if (ZoneId.of(serverTz).normalized().equals(clientZoneId)
             || ZoneId.of(serverTz, ZoneId.SHORT_IDS).equals(clientZoneId)) {
-          mustSetTimezone = false;
+          return null;
         }
       } catch (ZoneRulesException e) {
         // eat
       }
+    }
 
-      if (mustSetTimezone) {
-        if (clientZoneId.getRules().isFixedOffset()) {
-          ZoneOffset zoneOffset = clientZoneId.getRules().getOffset(Instant.now());
-          sb.append(",time_zone='").append(zoneOffset.getId()).append("'");
-        } else {
-          sb.append(",time_zone='").append(conf.timezone()).append("'");
-        }
-      }
+    if (clientZoneId.getRules().isFixedOffset()) {
+      ZoneOffset zoneOffset = clientZoneId.getRules().getOffset(Instant.now());
+      return "time_zone='" + zoneOffset.getId() + "'";
     }
+    return "time_zone='" + conf.timezone() + "'";
+  }
 
-    sb.append(",");
+  private String transactionIsolationVariable() {
     int major = context.getVersion().getMajorVersion();
     if (!context.getVersion().isMariaDBServer()
         && ((major >= 8 && context.getVersion().versionGreaterOrEqual(8, 0, 3))
             || (major < 8 && context.getVersion().versionGreaterOrEqual(5, 7, 20)))) {
-      sb.append("transaction_isolation");
-    } else {
-      sb.append("tx_isolation");
+      return "transaction_isolation";
     }
-    sb.append("='").append(conf.transactionIsolation().getValue()).append("'");
+    return "tx_isolation";
+  }
 
-    return "set " + sb;
+  /**
+   * Indicate if server can notify transaction isolation changes. Tracking is not set if configured
+   * session variables set tracked variables.
+   *
+   * @return true if transaction isolation can be tracked
+   */
+  private boolean canTrackTransactionIsolation() {
+    return (context.getServerCapabilities() & Capabilities.CLIENT_SESSION_TRACK) != 0
+        && (conf.sessionVariables() == null
+            || !conf.sessionVariables().contains("session_track_system_variables"));
   }
 
   public void setReadOnly(boolean readOnly) throws SQLException {
@@ -403,8 +651,23 @@ public class ClientImpl implements Client, AutoCloseable {
     }
   }
 
+  /**
+   * Read remaining rows of current streaming result, if any. Must be done before sending any
+   * command, since a streaming prefetch task may still be reading socket, and reader and writer
+   * share packet sequence.
+   *
+   * @throws SQLException if any error occurs while reading remaining rows
+   */
+  protected void fetchStreamingRemaining() throws SQLException {
+    if (streamStmt != null) {
+      streamStmt.fetchRemaining();
+      streamStmt = null;
+    }
+  }
+
   public int sendQuery(ClientMessage message) throws SQLException {
     checkNotClosed();
+    fetchStreamingRemaining();
     try {
       if (logger.isDebugEnabled() && message.description() != null) {
         logger.debug("execute query: {}", message.description());
@@ -531,6 +794,105 @@ public class ClientImpl implements Client, AutoCloseable {
     }
   }
 
+  public CompletableFuture<List<Completion>> executeAsync(
+      ClientMessage message, org.mariadb.jdbc.Statement stmt, Executor executor) {
+    CompletableFuture<List<Completion>> future = new CompletableFuture<>();
+    List<AsyncCommand> finished = null;
+    Exception error = null;
+    lock.lock();
+    try {
+      // without pipelining, previous commands responses must be read before sending.
+      // LOAD DATA LOCAL INFILE cannot be pipelined, since server waits for file content
+      boolean pipeline =
+          !disablePipeline
+              && !(conf.allowLocalInfile()
+                  && (context.getServerCapabilities() & Capabilities.LOCAL_FILES) != 0);
+      if (!pipeline && !asyncCommands.isEmpty()) finished = readAsyncResponses(null);
+      AsyncCommand command = new AsyncCommand(message, stmt, sendQuery(message), future, executor);
+      asyncCommands.add(command);
+      executor.execute(() -> readAsyncResponse(command));
+    } catch (SQLException | RuntimeException e) {
+      error = e;
+    } finally {
+      lock.unlock();
+    }
+    if (finished != null) completeAsyncCommands(finished);
+    if (error != null) future.completeExceptionally(error);
+    return future;
+  }
+
+  private void readAsyncResponse(AsyncCommand command) {
+    List<AsyncCommand> finished = null;
+    lock.lock();
+    try {
+      if (!command.read) finished = readAsyncResponses(command);
+    } finally {
+      lock.unlock();
+    }
+    if (finished != null) completeAsyncCommands(finished);
+  }
+
+  /**
+   * Complete futures of asynchronous commands whose responses have been read. Futures must not be
+   * completed while holding lock, since dependent stages would then run under connection lock: if
+   * current thread still holds lock, futures are completed by command executor.
+   *
+   * @param commands commands whose responses have been read, in sending order
+   */
+  private void completeAsyncCommands(List<AsyncCommand> commands) {
+    if (commands.isEmpty()) return;
+    if (lock.isHeldByCurrentThread()) {
+      commands.get(0).executor.execute(() -> commands.forEach(AsyncCommand::complete));
+    } else {
+      commands.forEach(AsyncCommand::complete);
+    }
+  }
+
+  /**
+   * Read responses of pending asynchronous commands in sending order, up to indicated command. Lock
+   * must be held. Futures are not completed, see {@link #completeAsyncCommands(List)}.
+   *
+   * @param last last command to read, null to read all pending commands
+   * @return commands read
+   */
+  private List<AsyncCommand> readAsyncResponses(AsyncCommand last) {
+    List<AsyncCommand> finished = new ArrayList<>();
+    AsyncCommand command;
+    while ((command = asyncCommands.poll()) != null) {
+      command.read = true;
+      finished.add(command);
+      try {
+        checkNotClosed();
+        fetchStreamingRemaining();
+        List<Completion> completions = new ArrayList<>();
+        for (int i = 0; i < command.responseNumber; i++) {
+          readResults(
+              command.stmt,
+              command.message,
+              completions,
+              0,
+              0L,
+              ResultSet.CONCUR_READ_ONLY,
+              ResultSet.TYPE_FORWARD_ONLY,
+              false);
+        }
+        asyncCompleted(command.message);
+        command.completions = completions;
+      } catch (SQLException | RuntimeException e) {
+        command.error = e;
+      }
+      if (command == last) break;
+    }
+    return finished;
+  }
+
+  /**
+   * Asynchronous command has been successfully executed.
+   *
+   * @param message command
+   */
+  protected void asyncCompleted(ClientMessage message) {}
+
   public List<Completion> execute(
       ClientMessage message,
       org.mariadb.jdbc.Statement stmt,
@@ -555,10 +917,8 @@ public class ClientImpl implements Client, AutoCloseable {
       boolean closeOnCompletion)
       throws SQLException {
     checkNotClosed();
-    if (streamStmt != null) {
-      streamStmt.fetchRemaining();
-      streamStmt = null;
-    }
+    fetchStreamingRemaining();
+    if (!asyncCommands.isEmpty()) completeAsyncCommands(readAsyncResponses(null));
     List<Completion> completions = new ArrayList<>();
     readResults(
         stmt,
@@ -574,10 +934,8 @@ public class ClientImpl implements Client, AutoCloseable {
 
   public void readResponse(ClientMessage message) throws SQLException {
     checkNotClosed();
-    if (streamStmt != null) {
-      streamStmt.fetchRemaining();
-      streamStmt = null;
-    }
+    fetchStreamingRemaining();
+    if (!asyncCommands.isEmpty()) completeAsyncCommands(readAsyncResponses(null));
     List<Completion> completions = new ArrayList<>();
     readResults(
         null,
@@ -592,6 +950,7 @@ public class ClientImpl implements Client, AutoCloseable {
 
   public void closePrepare(PrepareResultPacket prepare) throws SQLException {
     checkNotClosed();
+    fetchStreamingRemaining();
     try {
       new ClosePreparePacket(prepare.getStatementId()).encode(writer, context);
     } catch (IOException ioException) {
@@ -723,12 +1082,25 @@ public class ClientImpl implements Client, AutoCloseable {
     try {
       try {
         long maxCurrentMillis = System.currentTimeMillis() + 10;
-        socket.shutdownOutput();
-        socket.setSoTimeout(3);
-        InputStream is = socket.getInputStream();
-        //noinspection StatementWithEmptyBody
-        while (is.read() != -1 && System.currentTimeMillis() < maxCurrentMillis) {
-          // read byte
+        if (sslChannel != null) {
+          // send TLS close_notify, closing underlying channel
+          sslChannel.close();
+        } else if (channel != null) {
+          channel.shutdownOutput();
+          channel.setTimeout(3);
+          ByteBuffer bb = ByteBuffer.allocate(1);
+          //noinspection StatementWithEmptyBody
+          while (channel.read(bb) != -1 && System.currentTimeMillis() < maxCurrentMillis) {
+            bb.clear();
+          }
+        } else {
+          socket.shutdownOutput();
+          socket.setSoTimeout(3);
+          InputStream is = socket.getInputStream();
+          //noinspection StatementWithEmptyBody
+          while (is.read() != -1 && System.currentTimeMillis() < maxCurrentMillis) {
+            // read byte
+          }
         }
       } catch (Throwable t) {
         // eat exception
@@ -739,7 +1111,11 @@ public class ClientImpl implements Client, AutoCloseable {
       // eat
     } finally {
       try {
-        socket.close();
+        if (channel != null) {
+          channel.close();
+        } else {
+          socket.close();
+        }
       } catch (IOException e) {
         // socket closed, if any error, so not throwing error
       }
@@ -809,7 +1185,11 @@ public class ClientImpl implements Client, AutoCloseable {
   public void setSocketTimeout(int milliseconds) throws SQLException {
     try {
       socketTimeout = milliseconds;
-      socket.setSoTimeout(milliseconds);
+      if (channel != null) {
+        channel.setTimeout(milliseconds);
+      } else {
+        socket.setSoTimeout(milliseconds);
+      }
     } catch (SocketException se) {
       throw exceptionFactory.create("Cannot set the network timeout", "42000", se);
     }
@@ -849,4 +1229,48 @@ public class ClientImpl implements Client, AutoCloseable {
     context.resetStateFlag();
     context.getPrepareCache().reset();
   }
+
+  /** Command sent asynchronously, waiting for its responses to be read. */
+  private static final class AsyncCommand {
+    private final ClientMessage message;
+    private final org.mariadb.jdbc.Statement stmt;
+    private final int responseNumber;
+    private final CompletableFuture<List<Completion>> future;
+    private final Executor executor;
+
+    // set when responses are read, under lock
+    private boolean read;
+    private List<Completion> completions;
+    private Exception error;
+
+    private AsyncCommand(
+        ClientMessage message,
+        org.mariadb.jdbc.Statement stmt,
+        int responseNumber,
+        CompletableFuture<List<Completion>> future,
+        Executor executor) {
+      this.message = message;
+      this.stmt = stmt;
+      this.responseNumber = responseNumber;
+      this.future = future;
+      this.executor = executor;
+    }
+
+    private void complete() {
+      if (error != null) {
+        future.completeExceptionally(error);
+      } else {
+        future.complete(completions);
+      }
+    }
+  }
+
+  /** Time zone initialization command failure, other initialization commands having succeeded. */
+  private static final class TimezoneException extends SQLException {
+    private static final long serialVersionUID = -4318651640226540473L;
+
+    private TimezoneException(SQLException cause) {
+      super(cause.getMessage(), cause.getSQLState(), cause.getErrorCode(), cause);
+    }
+  }
 }
@@ -4,10 +4,12 @@
 
 package org.mariadb.jdbc.client;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import org.mariadb.jdbc.Configuration;
 import org.mariadb.jdbc.HostAddress;
 import org.mariadb.jdbc.client.context.RedoContext;
@@ -24,9 +26,20 @@ public class ClientReplayImpl extends ClientImpl {
     super(conf, hostAddress, lock, skipPostCommands);
   }
 
+  ClientReplayImpl(
+      Configuration conf,
+      HostAddress hostAddress,
+      ReentrantLock lock,
+      boolean skipPostCommands,
+      Consumer<Closeable> socketListener)
+      throws SQLException {
+    super(conf, hostAddress, lock, skipPostCommands, socketListener);
+  }
+
   @Override
   public int sendQuery(ClientMessage message) throws SQLException {
     checkNotClosed();
+    fetchStreamingRemaining();
     try {
       if (message instanceof RedoableClientMessage)
         ((RedoableClientMessage) message).ensureReplayable(context);
@@ -77,6 +90,11 @@ public class ClientReplayImpl extends ClientImpl {
     return res;
   }
 
+  @Override
+  protected void asyncCompleted(ClientMessage message) {
+    ((RedoContext) context).saveRedo(message);
+  }
+
   @Override
   public List<Completion> execute(
       ClientMessage message,
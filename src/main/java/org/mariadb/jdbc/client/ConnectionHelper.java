@@ -8,11 +8,13 @@ import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.channels.SocketChannel;
 import java.sql.SQLException;
 import java.sql.SQLNonTransientConnectionException;
 import java.util.Arrays;
 import java.util.List;
 import javax.net.SocketFactory;
+import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLSession;
 import javax.net.ssl.SSLSocket;
@@ -21,10 +23,13 @@ import org.mariadb.jdbc.Configuration;
 import org.mariadb.jdbc.HostAddress;
 import org.mariadb.jdbc.SslMode;
 import org.mariadb.jdbc.client.context.Context;
+import org.mariadb.jdbc.client.socket.NioChannel;
 import org.mariadb.jdbc.client.socket.PacketReader;
 import org.mariadb.jdbc.client.socket.PacketWriter;
 import org.mariadb.jdbc.client.socket.SocketHandlerFunction;
 import org.mariadb.jdbc.client.socket.SocketUtility;
+import org.mariadb.jdbc.client.socket.SslChannel;
+import org.mariadb.jdbc.client.tls.TlsStatistics;
 import org.mariadb.jdbc.message.client.SslRequestPacket;
 import org.mariadb.jdbc.message.server.AuthSwitchPacket;
 import org.mariadb.jdbc.message.server.ErrorPacket;
@@ -126,6 +131,55 @@ public final class ConnectionHelper {
     }
   }
 
+  /**
+   * Indicate if connection will use NIO channel transport. Option `useNioTransport` is ignored for
+   * named pipe, unix socket and custom socket factory.
+   *
+   * @param conf configuration
+   * @return true if NIO transport must be used
+   */
+  public static boolean useNioTransport(final Configuration conf) {
+    return conf.useNioTransport()
+        && conf.pipe() == null
+        && conf.localSocket() == null
+        && conf.socketFactory() == null;
+  }
+
+  /**
+   * Connect a NIO channel accordingly to options.
+   *
+   * @param conf configuration
+   * @param hostAddress host
+   * @return connected channel
+   * @throws SQLException if connection fails
+   */
+  public static NioChannel connectChannel(final Configuration conf, final HostAddress hostAddress)
+      throws SQLException {
+    SocketChannel socketChannel = null;
+    try {
+      if (hostAddress == null) throw new SQLException("hostname must be set to connect socket");
+      socketChannel = SocketChannel.open();
+      SocketHelper.setChannelOption(conf, socketChannel);
+      NioChannel channel = new NioChannel(socketChannel);
+      channel.connect(
+          new InetSocketAddress(hostAddress.host, hostAddress.port), conf.connectTimeout());
+      return channel;
+
+    } catch (IOException ioe) {
+      if (socketChannel != null) {
+        try {
+          socketChannel.close();
+        } catch (IOException e) {
+          // eat
+        }
+      }
+      throw new SQLNonTransientConnectionException(
+          String.format("Socket fail to connect to host:%s. %s", hostAddress, ioe.getMessage()),
+          "08000",
+          ioe);
+    }
+  }
+
   public static long initializeClientCapabilities(
       final Configuration configuration, final long serverCapabilities) {
     long capabilities =
@@ -202,7 +256,11 @@ public final class ConnectionHelper {
   }
 
   public static void authenticationHandler(
-      Credential credential, PacketWriter writer, PacketReader reader, Context context)
+      Credential credential,
+      PacketWriter writer,
+      PacketReader reader,
+      Context context,
+      HostAddress hostAddress)
       throws SQLException, IOException {
 
     writer.permitTrace(true);
@@ -222,7 +280,7 @@ public final class ConnectionHelper {
               AuthenticationPluginLoader.get(authSwitchPacket.getPlugin(), conf);
 
           authenticationPlugin.initialize(
-              credential.getPassword(), authSwitchPacket.getSeed(), conf);
+              credential.getPassword(), authSwitchPacket.getSeed(), conf, hostAddress);
           buf = authenticationPlugin.process(writer, reader, context);
           break;
 
@@ -299,32 +357,107 @@ public final class ConnectionHelper {
       enabledSslCipherSuites(sslSocket, conf);
 
       sslSocket.setUseClientMode(true);
+      long startMillis = System.currentTimeMillis();
+      long startNanos = System.nanoTime();
       sslSocket.startHandshake();
+      TlsStatistics.record(sslSocket.getSession(), startMillis, System.nanoTime() - startNanos);
 
       // perform hostname verification
       // (rfc2818 indicate that if "client has external information as to the expected identity of
       // the server, the hostname check MAY be omitted")
       if (conf.sslMode() == SslMode.VERIFY_FULL && hostAddress != null) {
-
-        SSLSession session = sslSocket.getSession();
-        try {
-          socketPlugin.verify(hostAddress.host, session, context.getThreadId());
-        } catch (SSLException ex) {
-          throw context
-              .getExceptionFactory()
-              .create(
-                  "SSL hostname verification failed : "
-                      + ex.getMessage()
-                      + "\nThis verification can be disabled using the sslMode to VERIFY_CA "
-                      + "but won't prevent man-in-the-middle attacks anymore",
-                  "08006");
-        }
+        verifyHostname(socketPlugin, hostAddress, sslSocket.getSession(), context);
       }
       return sslSocket;
     }
     return null;
   }
 
+  /**
+   * Same than {@link #sslWrapper}, for NIO transport : TLS is handled by an SSLEngine over the
+   * connected channel.
+   *
+   * @param hostAddress host
+   * @param channel connected channel
+   * @param clientCapabilities client capabilities
+   * @param exchangeCharset connection charset
+   * @param context connection context
+   * @param writer packet writer
+   * @return TLS channel, or null if TLS is disabled
+   * @throws SQLException if configuration or hostname verification fails
+   * @throws IOException if any socket error occurs
+   */
+  public static SslChannel sslChannelWrapper(
+      final HostAddress hostAddress,
+      final NioChannel channel,
+      long clientCapabilities,
+      final byte exchangeCharset,
+      Context context,
+      PacketWriter writer)
+      throws SQLException, IOException {
+
+    Configuration conf = context.getConf();
+    if (conf.sslMode() != SslMode.DISABLE) {
+
+      if ((context.getServerCapabilities() & Capabilities.SSL) == 0) {
+        throw context
+            .getExceptionFactory()
+            .create("Trying to connect with ssl, but ssl not enabled in the server", "08000");
+      }
+
+      clientCapabilities |= Capabilities.SSL;
+      SslRequestPacket.create(clientCapabilities, exchangeCharset).encode(writer, context);
+
+      TlsSocketPlugin socketPlugin = TlsSocketPluginLoader.get(conf.tlsSocketType());
+      SSLEngine engine =
+          socketPlugin.createEngine(
+              conf,
+              context.getExceptionFactory(),
+              hostAddress == null ? null : hostAddress.host,
+              hostAddress == null ? 0 : hostAddress.port);
+      engine.setUseClientMode(true);
+      if (conf.enabledSslProtocolSuites() != null) {
+        engine.setEnabledProtocols(
+            checkSuites(
+                engine.getSupportedProtocols(), conf.enabledSslProtocolSuites(), "protocol"));
+      }
+      if (conf.enabledSslCipherSuites() != null) {
+        engine.setEnabledCipherSuites(
+            checkSuites(
+                engine.getSupportedCipherSuites(), conf.enabledSslCipherSuites(), "cipher"));
+      }
+
+      SslChannel sslChannel = new SslChannel(channel, engine);
+      long startMillis = System.currentTimeMillis();
+      long startNanos = System.nanoTime();
+      sslChannel.handshake();
+      TlsStatistics.record(engine.getSession(), startMillis, System.nanoTime() - startNanos);
+
+      if (conf.sslMode() == SslMode.VERIFY_FULL && hostAddress != null) {
+        verifyHostname(socketPlugin, hostAddress, engine.getSession(), context);
+      }
+      return sslChannel;
+    }
+    return null;
+  }
+
+  private static void verifyHostname(
+      TlsSocketPlugin socketPlugin, HostAddress hostAddress, SSLSession session, Context context)
+      throws SQLException {
+    try {
+      socketPlugin.verify(hostAddress.host, session, context.getThreadId());
+    } catch (SSLException ex) {
+      throw context
+          .getExceptionFactory()
+          .create(
+              "SSL hostname verification failed : "
+                  + ex.getMessage()
+                  + "\nThis verification can be disabled using the sslMode to VERIFY_CA "
+                  + "but won't prevent man-in-the-middle attacks anymore",
+              "08006");
+    }
+  }
+
   /**
    * Return possible protocols : values of option enabledSslProtocolSuites is set, or default to
    * "TLSv1,TLSv1.1". MariaDB versions &ge; 10.0.15 and &ge; 5.5.41 supports TLSv1.2 if compiled
@@ -337,18 +470,9 @@ public final class ConnectionHelper {
   static void enabledSslProtocolSuites(SSLSocket sslSocket, Configuration conf)
       throws SQLException {
     if (conf.enabledSslProtocolSuites() != null) {
-      List<String> possibleProtocols = Arrays.asList(sslSocket.getSupportedProtocols());
-      String[] protocols = conf.enabledSslProtocolSuites().split("[,;\\s]+");
-      for (String protocol : protocols) {
-        if (!possibleProtocols.contains(protocol)) {
-          throw new SQLException(
-              "Unsupported SSL protocol '"
-                  + protocol
-                  + "'. Supported protocols : "
-                  + possibleProtocols.toString().replace("[", "").replace("]", ""));
-        }
-      }
-      sslSocket.setEnabledProtocols(protocols);
+      sslSocket.setEnabledProtocols(
+          checkSuites(
+              sslSocket.getSupportedProtocols(), conf.enabledSslProtocolSuites(), "protocol"));
     }
   }
 
@@ -361,18 +485,38 @@ public final class ConnectionHelper {
    */
   static void enabledSslCipherSuites(SSLSocket sslSocket, Configuration conf) throws SQLException {
     if (conf.enabledSslCipherSuites() != null) {
-      List<String> possibleCiphers = Arrays.asList(sslSocket.getSupportedCipherSuites());
-      String[] ciphers = conf.enabledSslCipherSuites().split("[,;\\s]+");
-      for (String cipher : ciphers) {
-        if (!possibleCiphers.contains(cipher)) {
-          throw new SQLException(
-              "Unsupported SSL cipher '"
-                  + cipher
-                  + "'. Supported ciphers : "
-                  + possibleCiphers.toString().replace("[", "").replace("]", ""));
-        }
+      sslSocket.setEnabledCipherSuites(
+          checkSuites(
+              sslSocket.getSupportedCipherSuites(), conf.enabledSslCipherSuites(), "cipher"));
+    }
+  }
+
+  /**
+   * Split option value, ensuring each value is supported.
+   *
+   * @param supported supported values
+   * @param option option value
+   * @param type value type for error message (protocol or cipher)
+   * @return requested values
+   * @throws SQLException if a value isn't supported
+   */
+  private static String[] checkSuites(String[] supported, String option, String type)
+      throws SQLException {
+    List<String> possibleValues = Arrays.asList(supported);
+    String[] values = option.split("[,;\\s]+");
+    for (String value : values) {
+      if (!possibleValues.contains(value)) {
+        throw new SQLException(
+            "Unsupported SSL "
+                + type
+                + " '"
+                + value
+                + "'. Supported "
+                + type
+                + "s : "
+                + possibleValues.toString().replace("[", "").replace("]", ""));
       }
-      sslSocket.setEnabledCipherSuites(ciphers);
     }
+    return values;
   }
 }
@@ -4,12 +4,20 @@
 
 package org.mariadb.jdbc.client;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import org.mariadb.jdbc.Configuration;
 import org.mariadb.jdbc.HostAddress;
 import org.mariadb.jdbc.Statement;
@@ -21,6 +29,7 @@ import org.mariadb.jdbc.message.client.QueryPacket;
 import org.mariadb.jdbc.message.client.RedoableWithPrepareClientMessage;
 import org.mariadb.jdbc.message.server.Completion;
 import org.mariadb.jdbc.message.server.PrepareResultPacket;
+import org.mariadb.jdbc.pool.PoolThreadFactory;
 import org.mariadb.jdbc.util.constants.ConnectionState;
 import org.mariadb.jdbc.util.constants.ServerStatus;
 import org.mariadb.jdbc.util.exceptions.ExceptionFactory;
@@ -69,12 +78,29 @@ public class MultiPrimaryClient implements Client {
     SQLNonTransientConnectionException lastSqle = null;
     int maxRetries = conf.retriesAllDown();
 
+    if (conf.parallelConnectDelay() > 0) {
+      List<HostAddress> candidates = new ArrayList<>();
+      ConcurrentMap<HostAddress, Long> excluded = new ConcurrentHashMap<>(denyList);
+      while ((host = conf.haMode().getAvailableHost(conf.addresses(), excluded, !readOnly))
+          .isPresent()) {
+        candidates.add(host.get());
+        excluded.put(host.get(), Long.MAX_VALUE);
+      }
+      if (candidates.size() > 1) {
+        ParallelConnector connector = new ParallelConnector(candidates);
+        Client client = connector.connect();
+        if (client != null) {
+          denyList.remove(client.getHostAddress());
+          return client;
+        }
+        lastSqle = connector.lastSqle;
+      }
+    }
+
     while ((host = conf.haMode().getAvailableHost(conf.addresses(), denyList, !readOnly))
         .isPresent()) {
       try {
-        return conf.transactionReplay()
-            ? new ClientReplayImpl(conf, host.get(), lock, false)
-            : new ClientImpl(conf, host.get(), lock, false);
+        return createClient(host.get());
       } catch (SQLNonTransientConnectionException sqle) {
         lastSqle = sqle;
         denyList.putIfAbsent(host.get(), System.currentTimeMillis() + deniedListTimeout);
@@ -105,10 +131,7 @@ public class MultiPrimaryClient implements Client {
                 .findFirst()
                 .map(Map.Entry::getKey);
         if (host.isPresent()) {
-          Client client =
-              conf.transactionReplay()
-                  ? new ClientReplayImpl(conf, host.get(), lock, false)
-                  : new ClientImpl(conf, host.get(), lock, false);
+          Client client = createClient(host.get());
           denyList.remove(host.get());
           return client;
         }
@@ -133,6 +156,174 @@ public class MultiPrimaryClient implements Client {
     throw lastSqle;
   }
 
+  private Client createClient(HostAddress hostAddress) throws SQLException {
+    return createClient(hostAddress, null);
+  }
+
+  private Client createClient(HostAddress hostAddress, Consumer<Closeable> socketListener)
+      throws SQLException {
+    return conf.transactionReplay()
+        ? new ClientReplayImpl(conf, hostAddress, lock, false, socketListener)
+        : new ClientImpl(conf, hostAddress, lock, false, socketListener);
+  }
+
+  /**
+   * Staggered parallel connection attempts ("happy eyeballs"): an attempt starts on next candidate
+   * host after `parallelConnectDelay` milliseconds, or as soon as previous attempt fails. First
+   * connection to complete is kept, and sockets of attempts still pending are closed to cancel
+   * them. Failing hosts are denied, even when failing after a connection has been kept.
+   */
+  private final class ParallelConnector {
+    private final List<HostAddress> candidates;
+    private final List<Attempt> attempts = new ArrayList<>();
+    private final ReentrantLock connectorLock = new ReentrantLock();
+    private final Condition completion = connectorLock.newCondition();
+    private int failures;
+    private Client winner;
+    private boolean done;
+    private volatile SQLNonTransientConnectionException lastSqle;
+
+    ParallelConnector(List<HostAddress> candidates) {
+      this.candidates = candidates;
+    }
+
+    /**
+     * Connect to candidates.
+     *
+     * @return first connected client, or null if all attempts failed
+     */
+    Client connect() {
+      int pending = 0;
+      connectorLock.lock();
+      try {
+        while (true) {
+          if (attempts.size() < candidates.size()) {
+            start(candidates.get(attempts.size()));
+            pending++;
+          }
+
+          // wait until an attempt completes, or next attempt must start
+          long waitNanos =
+              attempts.size() < candidates.size()
+                  ? TimeUnit.MILLISECONDS.toNanos(conf.parallelConnectDelay())
+                  : Long.MAX_VALUE;
+          while (winner == null && failures == 0 && waitNanos > 0) {
+            waitNanos = completion.awaitNanos(waitNanos);
+          }
+
+          if (winner != null) return winner;
+          pending -= failures;
+          failures = 0;
+          if (pending == 0 && attempts.size() == candidates.size()) return null;
+        }
+      } catch (InterruptedException interrupted) {
+        Thread.currentThread().interrupt();
+        lastSqle = new SQLNonTransientConnectionException("Connection attempt interrupted");
+        if (winner != null) close(winner);
+        return null;
+      } finally {
+        // cancel pending attempts. Connections completing after this point are closed
+        done = true;
+        for (Attempt attempt : attempts) {
+          attempt.cancelled = true;
+          closeSocket(attempt.socket);
+          attempt.socket = null;
+        }
+        connectorLock.unlock();
+      }
+    }
+
+    private void start(HostAddress hostAddress) {
+      Attempt attempt = new Attempt();
+      attempts.add(attempt);
+      ConnectExecutor.EXECUTOR.execute(
+          () -> {
+            Client client;
+            try {
+              client = createClient(hostAddress, socket -> register(attempt, socket));
+            } catch (SQLException sqle) {
+              fail(attempt, hostAddress, sqle);
+              return;
+            }
+            connectorLock.lock();
+            try {
+              attempt.socket = null;
+              if (!done && winner == null) {
+                winner = client;
+                completion.signal();
+                return;
+              }
+            } finally {
+              connectorLock.unlock();
+            }
+            close(client);
+          });
+    }
+
+    private void register(Attempt attempt, Closeable socket) {
+      connectorLock.lock();
+      try {
+        if (attempt.cancelled) {
+          closeSocket(socket);
+        } else {
+          attempt.socket = socket;
+        }
+      } finally {
+        connectorLock.unlock();
+      }
+    }
+
+    private void fail(Attempt attempt, HostAddress hostAddress, SQLException sqle) {
+      connectorLock.lock();
+      try {
+        attempt.socket = null;
+        // failure caused by cancellation doesn't indicate host is down
+        if (attempt.cancelled) return;
+        denyList.putIfAbsent(hostAddress, System.currentTimeMillis() + deniedListTimeout);
+        lastSqle =
+            sqle instanceof SQLNonTransientConnectionException
+                ? (SQLNonTransientConnectionException) sqle
+                : new SQLNonTransientConnectionException(
+                    sqle.getMessage(), sqle.getSQLState(), sqle.getErrorCode(), sqle);
+        if (!done) {
+          failures++;
+          completion.signal();
+        }
+      } finally {
+        connectorLock.unlock();
+      }
+    }
+
+    private void closeSocket(Closeable socket) {
+      if (socket == null) return;
+      try {
+        socket.close();
+      } catch (IOException e) {
+        // eat
+      }
+    }
+
+    private void close(Client client) {
+      try {
+        client.close();
+      } catch (SQLException e) {
+        // eat
+      }
+    }
+  }
+
+  /** Connection attempt state, guarded by connector lock. */
+  private static final class Attempt {
+    private Closeable socket;
+    private boolean cancelled;
+  }
+
+  /** Threads running parallel connection attempts, created on first use. */
+  private static final class ConnectExecutor {
+    private static final ExecutorService EXECUTOR =
+        Executors.newCachedThreadPool(new PoolThreadFactory("MariaDb-parallel-connect"));
+  }
+
   protected void reConnect() throws SQLException {
 
     denyList.putIfAbsent(
@@ -349,6 +540,19 @@ public class MultiPrimaryClient implements Client {
     }
   }
 
+  @Override
+  public CompletableFuture<List<Completion>> executeAsync(
+      ClientMessage message, Statement stmt, Executor executor) {
+    if (closed) {
+      CompletableFuture<List<Completion>> future = new CompletableFuture<>();
+      future.completeExceptionally(
+          new SQLNonTransientConnectionException("Connection is closed", "08000", 1220));
+      return future;
+    }
+    // no failover: a connection error fails pending commands, next command reconnect
+    return currentClient.executeAsync(message, stmt, executor);
+  }
+
   @Override
   public void readStreamingResults(
       List<Completion> completions,
@@ -8,6 +8,7 @@ import java.sql.SQLException;
 import java.sql.SQLNonTransientConnectionException;
 import java.sql.SQLTransientConnectionException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.locks.ReentrantLock;
 import org.mariadb.jdbc.Configuration;
@@ -211,6 +212,13 @@ public class MultiPrimaryReplicaClient extends MultiPrimaryClient {
         messages, stmt, fetchSize, maxRows, resultSetConcurrency, resultSetType, closeOnCompletion);
   }
 
+  @Override
+  public CompletableFuture<List<Completion>> executeAsync(
+      ClientMessage message, Statement stmt, Executor executor) {
+    reconnectIfNeeded();
+    return super.executeAsync(message, stmt, executor);
+  }
+
   @Override
   public void readStreamingResults(
       List<Completion> completions,
@@ -6,6 +6,7 @@ package org.mariadb.jdbc.client;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 import org.mariadb.jdbc.ServerPreparedStatement;
 import org.mariadb.jdbc.message.server.CachedPrepareResultPacket;
 import org.mariadb.jdbc.message.server.PrepareResultPacket;
@@ -15,6 +16,8 @@ public final class PrepareCache extends LinkedHashMap<String, CachedPrepareResul
   private static final long serialVersionUID = -8922905563713952695L;
   private final int maxSize;
   private final ClientImpl con;
+  // not using synchronized, since evicting an entry might close prepare on socket
+  private final ReentrantLock lock = new ReentrantLock();
 
   public PrepareCache(int size, ClientImpl con) {
     super(size, .75f, true);
@@ -31,31 +34,40 @@ public final class PrepareCache extends LinkedHashMap<String, CachedPrepareResul
     return false;
   }
 
-  public synchronized CachedPrepareResultPacket get(
-      String key, ServerPreparedStatement preparedStatement) {
-    CachedPrepareResultPacket prepare = super.get(key);
-    if (prepare != null && preparedStatement != null) {
-      prepare.incrementUse(preparedStatement);
+  public CachedPrepareResultPacket get(String key, ServerPreparedStatement preparedStatement) {
+    lock.lock();
+    try {
+      CachedPrepareResultPacket prepare = super.get(key);
+      if (prepare != null && preparedStatement != null) {
+        prepare.incrementUse(preparedStatement);
+      }
+      return prepare;
+    } finally {
+      lock.unlock();
     }
-    return prepare;
   }
 
-  public synchronized CachedPrepareResultPacket put(
+  public CachedPrepareResultPacket put(
       String key, CachedPrepareResultPacket result, ServerPreparedStatement preparedStatement) {
-    CachedPrepareResultPacket cached = super.get(key);
+    lock.lock();
+    try {
+      CachedPrepareResultPacket cached = super.get(key);
 
-    // if there is already some cached data, return existing cached data
-    if (cached != null) {
-      cached.incrementUse(preparedStatement);
-      result.unCache(con);
-      return cached;
-    }
+      // if there is already some cached data, return existing cached data
+      if (cached != null) {
+        cached.incrementUse(preparedStatement);
+        result.unCache(con);
+        return cached;
+      }
 
-    if (result.cache()) {
-      result.incrementUse(preparedStatement);
-      super.put(key, result);
+      if (result.cache()) {
+        result.incrementUse(preparedStatement);
+        super.put(key, result);
+      }
+      return null;
+    } finally {
+      lock.unlock();
     }
-    return null;
   }
 
   public CachedPrepareResultPacket get(Object key) {
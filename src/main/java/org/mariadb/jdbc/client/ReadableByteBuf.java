@@ -23,6 +23,14 @@ public final class ReadableByteBuf {
     this.mark = -1;
   }
 
+  public ReadableByteBuf(MutableInt sequence, byte[] buf, int pos, int limit) {
+    this.sequence = sequence;
+    this.pos = pos;
+    this.buf = buf;
+    this.limit = limit;
+    this.mark = -1;
+  }
+
   public int readableBytes() {
     return limit - pos;
   }
@@ -41,8 +49,9 @@ public final class ReadableByteBuf {
     return this;
   }
 
-  public void pos(int pos) {
+  public ReadableByteBuf pos(int pos) {
     this.pos = pos;
+    return this;
   }
 
   public void mark() {
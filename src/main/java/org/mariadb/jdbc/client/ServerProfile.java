@@ -0,0 +1,147 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.client;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.mariadb.jdbc.HostAddress;
+import org.mariadb.jdbc.client.context.Context;
+
+/**
+ * Server values retrieved when initializing a connection, cached JVM-wide per host when option
+ * `serverProfileCacheTtl` is set, permitting following connections to skip their retrieval. Session
+ * values like wait_timeout depend on user (init_connect), on interactive client flag
+ * (interactive_timeout) and on configured session variables, so those are part of cache key.
+ *
+ * <p>A cached profile is only used if server version and capabilities sent in handshake are
+ * identical and time-to-live is not expired, so a server upgrade or restart with a different
+ * configuration is detected on next connection. Profile is invalidated if initialization using it
+ * fails.
+ */
+public final class ServerProfile {
+
+  private static final ConcurrentHashMap<Key, ServerProfile> cache = new ConcurrentHashMap<>();
+
+  private final String serverVersion;
+  private final long serverCapabilities;
+  private final int maxAllowedPacket;
+  private final int waitTimeout;
+  private final String serverTimezone;
+  private final long expiration;
+
+  /**
+   * Constructor
+   *
+   * @param context connection context
+   * @param maxAllowedPacket server max_allowed_packet
+   * @param waitTimeout server wait_timeout
+   * @param serverTimezone server time zone, null if not retrieved
+   * @param ttl time to live in seconds
+   */
+  public ServerProfile(
+      Context context, int maxAllowedPacket, int waitTimeout, String serverTimezone, int ttl) {
+    this.serverVersion = context.getVersion().getVersion();
+    this.serverCapabilities = context.getServerCapabilities();
+    this.maxAllowedPacket = maxAllowedPacket;
+    this.waitTimeout = waitTimeout;
+    this.serverTimezone = serverTimezone;
+    this.expiration = System.nanoTime() + TimeUnit.SECONDS.toNanos(ttl);
+  }
+
+  /**
+   * Get cached profile, if still valid for server described by handshake.
+   *
+   * @param key cache key
+   * @param context connection context
+   * @return cached profile, or null if none is valid
+   */
+  public static ServerProfile get(Key key, Context context) {
+    ServerProfile profile = cache.get(key);
+    if (profile == null) return null;
+    if (System.nanoTime() - profile.expiration >= 0
+        || profile.serverCapabilities != context.getServerCapabilities()
+        || !profile.serverVersion.equals(context.getVersion().getVersion())) {
+      cache.remove(key, profile);
+      return null;
+    }
+    return profile;
+  }
+
+  /**
+   * Cache profile.
+   *
+   * @param key cache key
+   * @param profile server profile
+   */
+  public static void put(Key key, ServerProfile profile) {
+    cache.put(key, profile);
+  }
+
+  /**
+   * Remove cached profile.
+   *
+   * @param key cache key
+   */
+  public static void invalidate(Key key) {
+    cache.remove(key);
+  }
+
+  /** Remove all cached profiles. */
+  public static void clear() {
+    cache.clear();
+  }
+
+  public int getMaxAllowedPacket() {
+    return maxAllowedPacket;
+  }
+
+  public int getWaitTimeout() {
+    return waitTimeout;
+  }
+
+  public String getServerTimezone() {
+    return serverTimezone;
+  }
+
+  /** Cache key: host, user, interactive client flag and configured session variables. */
+  public static final class Key {
+    private final HostAddress hostAddress;
+    private final String user;
+    private final boolean interactive;
+    private final String sessionVariables;
+
+    /**
+     * Constructor.
+     *
+     * @param hostAddress host
+     * @param user authenticated user
+     * @param interactive client connects with interactive flag
+     * @param sessionVariables configured session variables
+     */
+    public Key(HostAddress hostAddress, String user, boolean interactive, String sessionVariables) {
+      this.hostAddress = hostAddress;
+      this.user = user;
+      this.interactive = interactive;
+      this.sessionVariables = sessionVariables;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Key)) return false;
+      Key key = (Key) o;
+      return interactive == key.interactive
+          && hostAddress.equals(key.hostAddress)
+          && Objects.equals(user, key.user)
+          && Objects.equals(sessionVariables, key.sessionVariables);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(hostAddress, user, interactive, sessionVariables);
+    }
+  }
+}
@@ -3,6 +3,8 @@ package org.mariadb.jdbc.client;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SocketChannel;
 import org.mariadb.jdbc.Configuration;
 
 public class SocketHelper {
@@ -24,4 +26,20 @@ public class SocketHelper {
       socket.bind(localAddress);
     }
   }
+
+  public static void setChannelOption(final Configuration conf, final SocketChannel channel)
+      throws IOException {
+    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    if (conf.tcpKeepAlive()) {
+      channel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+    }
+    if (conf.tcpAbortiveClose()) {
+      channel.setOption(StandardSocketOptions.SO_LINGER, 0);
+    }
+
+    if (conf.localSocketAddress() != null) {
+      InetSocketAddress localAddress = new InetSocketAddress(conf.localSocketAddress(), 0);
+      channel.bind(localAddress);
+    }
+  }
 }
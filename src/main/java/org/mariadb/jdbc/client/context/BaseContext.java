@@ -25,6 +25,7 @@ public class BaseContext implements Context {
   protected int serverStatus;
   private String database;
   private int transactionIsolationLevel;
+  private boolean transactionIsolationTracked;
   private int warning;
   private final PrepareCache prepareCache;
   private int stateFlag = 0;
@@ -41,7 +42,9 @@ public class BaseContext implements Context {
     this.serverStatus = handshake.getServerStatus();
     this.version = handshake.getVersion();
     this.eofDeprecated = (clientCapabilities & Capabilities.CLIENT_DEPRECATE_EOF) > 0;
-    this.skipMeta = (serverCapabilities & Capabilities.MARIADB_CLIENT_CACHE_METADATA) > 0;
+    // metadata_follows flag is only sent if capability has been negotiated
+    this.skipMeta =
+        (serverCapabilities & clientCapabilities & Capabilities.MARIADB_CLIENT_CACHE_METADATA) > 0;
     this.extendedInfo = (serverCapabilities & Capabilities.MARIADB_CLIENT_EXTENDED_TYPE_INFO) > 0;
     this.conf = conf;
     this.database = conf.database();
@@ -117,6 +120,14 @@ public class BaseContext implements Context {
     this.transactionIsolationLevel = transactionIsolationLevel;
   }
 
+  public boolean isTransactionIsolationTracked() {
+    return transactionIsolationTracked;
+  }
+
+  public void setTransactionIsolationTracked(boolean transactionIsolationTracked) {
+    this.transactionIsolationTracked = transactionIsolationTracked;
+  }
+
   public PrepareCache getPrepareCache() {
     return prepareCache;
   }
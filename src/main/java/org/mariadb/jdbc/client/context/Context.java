@@ -45,6 +45,10 @@ public interface Context {
 
   void setTransactionIsolationLevel(int transactionIsolationLevel);
 
+  boolean isTransactionIsolationTracked();
+
+  void setTransactionIsolationTracked(boolean transactionIsolationTracked);
+
   PrepareCache getPrepareCache();
 
   int getStateFlag();
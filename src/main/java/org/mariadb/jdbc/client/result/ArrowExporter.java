@@ -0,0 +1,518 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.client.result;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.DurationVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.SmallIntVector;
+import org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.arrow.vector.TinyIntVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.mariadb.jdbc.codec.RowDecoder;
+import org.mariadb.jdbc.codec.list.BigDecimalCodec;
+import org.mariadb.jdbc.codec.list.DurationCodec;
+import org.mariadb.jdbc.codec.list.LocalDateCodec;
+import org.mariadb.jdbc.codec.list.LocalDateTimeCodec;
+import org.mariadb.jdbc.message.server.ColumnDefinitionPacket;
+
+/**
+ * Export result set rows to Apache Arrow vectors, by batch. Requires optional dependency
+ * org.apache.arrow:arrow-vector, with an arrow memory implementation.
+ *
+ * <p>Values are decoded directly from row buffers to arrow buffers: numeric values using primitive
+ * decoders, string and binary values by copying their bytes. Only decimal and temporal values are
+ * decoded through an intermediate java object.
+ *
+ * <pre>{@code
+ * try (ArrowExporter exporter = new ArrowExporter(rs, allocator)) {
+ *   VectorSchemaRoot root = exporter.getVectorSchemaRoot();
+ *   while (exporter.loadNextBatch()) {
+ *     // use root
+ *   }
+ * }
+ * }</pre>
+ */
+public final class ArrowExporter implements AutoCloseable {
+
+  /** Batch size when result set has no fetch size. */
+  public static final int DEFAULT_BATCH_SIZE = 4096;
+
+  /** Maximum decimal precision of arrow 128 bits decimals. Wider decimals are exported as text. */
+  private static final int MAX_DECIMAL_PRECISION = 38;
+
+  private final Result result;
+  private final VectorSchemaRoot root;
+  private final ColumnWriter[] writers;
+  private final int batchSize;
+
+  /**
+   * Exporter, with result set fetch size as batch size, or {@link #DEFAULT_BATCH_SIZE} if not set.
+   *
+   * @param resultSet result set
+   * @param allocator arrow allocator
+   * @throws SQLException if result set is not a MariaDB result set
+   */
+  public ArrowExporter(ResultSet resultSet, BufferAllocator allocator) throws SQLException {
+    this(
+        resultSet,
+        allocator,
+        resultSet.getFetchSize() > 0 ? resultSet.getFetchSize() : DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Exporter.
+   *
+   * @param resultSet result set
+   * @param allocator arrow allocator
+   * @param batchSize maximum number of rows per batch
+   * @throws SQLException if result set is not a MariaDB result set
+   */
+  public ArrowExporter(ResultSet resultSet, BufferAllocator allocator, int batchSize)
+      throws SQLException {
+    if (batchSize <= 0) {
+      throw new SQLException(String.format("invalid batch size %s", batchSize));
+    }
+    this.result = resultSet.unwrap(Result.class);
+    this.batchSize = batchSize;
+    this.root = VectorSchemaRoot.create(toSchema(result.metadataList), allocator);
+    this.writers = new ColumnWriter[result.metadataList.length];
+    for (int i = 0; i < writers.length; i++) {
+      writers[i] = createWriter(i);
+    }
+  }
+
+  /**
+   * Arrow schema corresponding to columns.
+   *
+   * @param columns column definitions
+   * @return arrow schema
+   */
+  public static Schema toSchema(ColumnDefinitionPacket[] columns) {
+    List<Field> fields = new ArrayList<>(columns.length);
+    for (ColumnDefinitionPacket column : columns) {
+      fields.add(
+          new Field(
+              column.getColumnAlias(),
+              FieldType.nullable(toArrowType(column)),
+              Collections.emptyList()));
+    }
+    return new Schema(fields);
+  }
+
+  private static ArrowType toArrowType(ColumnDefinitionPacket column) {
+    switch (column.getType()) {
+      case TINYINT:
+        return column.isSigned() ? new ArrowType.Int(8, true) : new ArrowType.Int(16, true);
+      case YEAR:
+        return new ArrowType.Int(16, true);
+      case SMALLINT:
+        return column.isSigned() ? new ArrowType.Int(16, true) : new ArrowType.Int(32, true);
+      case MEDIUMINT:
+        return new ArrowType.Int(32, true);
+      case INTEGER:
+        return column.isSigned() ? new ArrowType.Int(32, true) : new ArrowType.Int(64, true);
+      case BIGINT:
+        return column.isSigned() ? new ArrowType.Int(64, true) : new ArrowType.Decimal(20, 0, 128);
+      case FLOAT:
+        return new ArrowType.FloatingPoint(FloatingPointPrecision.SINGLE);
+      case DOUBLE:
+        return new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+      case OLDDECIMAL:
+      case DECIMAL:
+        int precision = decimalPrecision(column);
+        return precision <= MAX_DECIMAL_PRECISION
+            ? new ArrowType.Decimal(precision, column.getDecimals(), 128)
+            : ArrowType.Utf8.INSTANCE;
+      case DATE:
+      case NEWDATE:
+        return new ArrowType.Date(DateUnit.DAY);
+      case TIMESTAMP:
+      case DATETIME:
+        return new ArrowType.Timestamp(TimeUnit.MICROSECOND, null);
+      case TIME:
+        return new ArrowType.Duration(TimeUnit.MICROSECOND);
+      case BIT:
+        return column.getLength() == 1 ? ArrowType.Bool.INSTANCE : ArrowType.Binary.INSTANCE;
+      case NULL:
+        return ArrowType.Null.INSTANCE;
+      case GEOMETRY:
+        return ArrowType.Binary.INSTANCE;
+      default:
+        return column.isBinary() ? ArrowType.Binary.INSTANCE : ArrowType.Utf8.INSTANCE;
+    }
+  }
+
+  private static int decimalPrecision(ColumnDefinitionPacket column) {
+    // column length includes sign and decimal point
+    long precision =
+        column.getLength() - (column.getDecimals() > 0 ? 1 : 0) - (column.isSigned() ? 1 : 0);
+    return (int) Math.max(1, Math.min(Integer.MAX_VALUE, precision));
+  }
+
+  private ColumnWriter createWriter(int index) {
+    ArrowType type = root.getSchema().getFields().get(index).getType();
+    switch (type.getTypeID()) {
+      case Int:
+        switch (((ArrowType.Int) type).getBitWidth()) {
+          case 8:
+            return new TinyIntWriter((TinyIntVector) root.getVector(index));
+          case 16:
+            return new SmallIntWriter((SmallIntVector) root.getVector(index));
+          case 32:
+            return new IntWriter((IntVector) root.getVector(index));
+          default:
+            return new BigIntWriter((BigIntVector) root.getVector(index));
+        }
+      case FloatingPoint:
+        return ((ArrowType.FloatingPoint) type).getPrecision() == FloatingPointPrecision.SINGLE
+            ? new FloatWriter((Float4Vector) root.getVector(index))
+            : new DoubleWriter((Float8Vector) root.getVector(index));
+      case Decimal:
+        return new DecimalWriter((DecimalVector) root.getVector(index));
+      case Date:
+        return new DateWriter((DateDayVector) root.getVector(index));
+      case Timestamp:
+        return new TimestampWriter((TimeStampMicroVector) root.getVector(index));
+      case Duration:
+        return new DurationWriter((DurationVector) root.getVector(index));
+      case Bool:
+        return new BooleanWriter((BitVector) root.getVector(index));
+      case Null:
+        return new NullWriter();
+      case Binary:
+        return new VarBinaryWriter((VarBinaryVector) root.getVector(index));
+      default:
+        return new VarCharWriter((VarCharVector) root.getVector(index));
+    }
+  }
+
+  public VectorSchemaRoot getVectorSchemaRoot() {
+    return root;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Load next rows in vector schema root, replacing previous batch.
+   *
+   * @return true if at least one row has been loaded, false if there is no more rows
+   * @throws SQLException if any error occurs while reading rows
+   */
+  public boolean loadNextBatch() throws SQLException {
+    root.allocateNew();
+    RowDecoder row = result.row;
+    int rowIndex = 0;
+    while (rowIndex < batchSize && result.next()) {
+      for (int i = 0; i < writers.length; i++) {
+        row.setPosition(i);
+        if (row.wasNull()) {
+          writers[i].setNull(rowIndex);
+        } else {
+          writers[i].write(row, rowIndex);
+        }
+      }
+      rowIndex++;
+    }
+    root.setRowCount(rowIndex);
+    return rowIndex > 0;
+  }
+
+  /** Release arrow buffers. Result set is not closed. */
+  @Override
+  public void close() {
+    root.close();
+  }
+
+  private abstract static class ColumnWriter {
+    abstract void write(RowDecoder row, int index) throws SQLException;
+
+    abstract void setNull(int index);
+  }
+
+  private static final class TinyIntWriter extends ColumnWriter {
+    private final TinyIntVector vector;
+
+    TinyIntWriter(TinyIntVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    void write(RowDecoder row, int index) throws SQLException {
+      vector.setSafe(index, row.decodeByte());
+    }
+
+    @Override
+    void setNull(int index) {
+      vector.setNull(index);
+    }
+  }
+
+  private static final class SmallIntWriter extends ColumnWriter {
+    private final SmallIntVector vector;
+
+    SmallIntWriter(SmallIntVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    void write(RowDecoder row, int index) throws SQLException {
+      vector.setSafe(index, row.decodeShort());
+    }
+
+    @Override
+    void setNull(int index) {
+      vector.setNull(index);
+    }
+  }
+
+  private static final class IntWriter extends ColumnWriter {
+    private final IntVector vector;
+
+    IntWriter(IntVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    void write(RowDecoder row, int index) throws SQLException {
+      vector.setSafe(index, row.decodeInt());
+    }
+
+    @Override
+    void setNull(int index) {
+      vector.setNull(index);
+    }
+  }
+
+  private static final class BigIntWriter extends ColumnWriter {
+    private final BigIntVector vector;
+
+    BigIntWriter(BigIntVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    void write(RowDecoder row, int index) throws SQLException {
+      vector.setSafe(index, row.decodeLong());
+    }
+
+    @Override
+    void setNull(int index) {
+      vector.setNull(index);
+    }
+  }
+
+  private static final class FloatWriter extends ColumnWriter {
+    private final Float4Vector vector;
+
+    FloatWriter(Float4Vector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    void write(RowDecoder row, int index) throws SQLException {
+      vector.setSafe(index, row.decodeFloat());
+    }
+
+    @Override
+    void setNull(int index) {
+      vector.setNull(index);
+    }
+  }
+
+  private static final class DoubleWriter extends ColumnWriter {
+    private final Float8Vector vector;
+
+    DoubleWriter(Float8Vector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    void write(RowDecoder row, int index) throws SQLException {
+      vector.setSafe(index, row.decodeDouble());
+    }
+
+    @Override
+    void setNull(int index) {
+      vector.setNull(index);
+    }
+  }
+
+  private static final class BooleanWriter extends ColumnWriter {
+    private final BitVector vector;
+
+    BooleanWriter(BitVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    void write(RowDecoder row, int index) throws SQLException {
+      vector.setSafe(index, row.decodeBoolean() ? 1 : 0);
+    }
+
+    @Override
+    void setNull(int index) {
+      vector.setNull(index);
+    }
+  }
+
+  private static final class DecimalWriter extends ColumnWriter {
+    private final DecimalVector vector;
+
+    DecimalWriter(DecimalVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    void write(RowDecoder row, int index) throws SQLException {
+      BigDecimal value = row.decode(BigDecimalCodec.INSTANCE, null);
+      vector.setSafe(index, value.setScale(vector.getScale()));
+    }
+
+    @Override
+    void setNull(int index) {
+      vector.setNull(index);
+    }
+  }
+
+  private static final class DateWriter extends ColumnWriter {
+    private final DateDayVector vector;
+
+    DateWriter(DateDayVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    void write(RowDecoder row, int index) throws SQLException {
+      LocalDate value = row.decode(LocalDateCodec.INSTANCE, null);
+      if (value == null) {
+        // zero date
+        vector.setNull(index);
+      } else {
+        vector.setSafe(index, (int) value.toEpochDay());
+      }
+    }
+
+    @Override
+    void setNull(int index) {
+      vector.setNull(index);
+    }
+  }
+
+  private static final class TimestampWriter extends ColumnWriter {
+    private final TimeStampMicroVector vector;
+
+    TimestampWriter(TimeStampMicroVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    void write(RowDecoder row, int index) throws SQLException {
+      LocalDateTime value = row.decode(LocalDateTimeCodec.INSTANCE, null);
+      if (value == null) {
+        // zero date
+        vector.setNull(index);
+      } else {
+        vector.setSafe(
+            index, value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1000);
+      }
+    }
+
+    @Override
+    void setNull(int index) {
+      vector.setNull(index);
+    }
+  }
+
+  private static final class DurationWriter extends ColumnWriter {
+    private final DurationVector vector;
+
+    DurationWriter(DurationVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    void write(RowDecoder row, int index) throws SQLException {
+      Duration value = row.decode(DurationCodec.INSTANCE, null);
+      vector.setSafe(index, value.getSeconds() * 1_000_000L + value.getNano() / 1000);
+    }
+
+    @Override
+    void setNull(int index) {
+      vector.setNull(index);
+    }
+  }
+
+  private static final class VarCharWriter extends ColumnWriter {
+    private final VarCharVector vector;
+
+    VarCharWriter(VarCharVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    void write(RowDecoder row, int index) {
+      vector.setSafe(index, row.valueBuffer(), row.valuePos(), row.valueLength());
+    }
+
+    @Override
+    void setNull(int index) {
+      vector.setNull(index);
+    }
+  }
+
+  private static final class VarBinaryWriter extends ColumnWriter {
+    private final VarBinaryVector vector;
+
+    VarBinaryWriter(VarBinaryVector vector) {
+      this.vector = vector;
+    }
+
+    @Override
+    void write(RowDecoder row, int index) {
+      vector.setSafe(index, row.valueBuffer(), row.valuePos(), row.valueLength());
+    }
+
+    @Override
+    void setNull(int index) {
+      vector.setNull(index);
+    }
+  }
+
+  private static final class NullWriter extends ColumnWriter {
+    @Override
+    void write(RowDecoder row, int index) {}
+
+    @Override
+    void setNull(int index) {}
+  }
+}
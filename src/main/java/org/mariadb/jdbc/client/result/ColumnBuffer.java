@@ -0,0 +1,230 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.client.result;
+
+import java.sql.SQLException;
+import org.mariadb.jdbc.codec.RowDecoder;
+import org.mariadb.jdbc.util.exceptions.ExceptionFactory;
+
+/**
+ * Destination of a column decoded by {@link ColumnarResultSet#fetchColumns(int, ColumnBuffer...)}.
+ *
+ * <p>Null values are set to 0 (or false) in value array. When a null bitmap is given, bit {@code i
+ * % 64} of {@code nulls[i / 64]} is set if value of row {@code i} is null, and cleared otherwise,
+ * using {@link java.util.BitSet#valueOf(long[])} layout.
+ */
+public abstract class ColumnBuffer {
+
+  private final int columnIndex;
+  private final long[] nulls;
+
+  private ColumnBuffer(int columnIndex, long[] nulls) {
+    this.columnIndex = columnIndex;
+    this.nulls = nulls;
+  }
+
+  /**
+   * Buffer decoding column to long values.
+   *
+   * @param columnIndex column index (1 is first)
+   * @param values destination array
+   * @param nulls null bitmap, may be null
+   * @return column buffer
+   */
+  public static ColumnBuffer of(int columnIndex, long[] values, long[] nulls) {
+    return new LongBuffer(columnIndex, values, nulls);
+  }
+
+  /**
+   * Buffer decoding column to int values.
+   *
+   * @param columnIndex column index (1 is first)
+   * @param values destination array
+   * @param nulls null bitmap, may be null
+   * @return column buffer
+   */
+  public static ColumnBuffer of(int columnIndex, int[] values, long[] nulls) {
+    return new IntBuffer(columnIndex, values, nulls);
+  }
+
+  /**
+   * Buffer decoding column to double values.
+   *
+   * @param columnIndex column index (1 is first)
+   * @param values destination array
+   * @param nulls null bitmap, may be null
+   * @return column buffer
+   */
+  public static ColumnBuffer of(int columnIndex, double[] values, long[] nulls) {
+    return new DoubleBuffer(columnIndex, values, nulls);
+  }
+
+  /**
+   * Buffer decoding column to boolean values.
+   *
+   * @param columnIndex column index (1 is first)
+   * @param values destination array
+   * @param nulls null bitmap, may be null
+   * @return column buffer
+   */
+  public static ColumnBuffer of(int columnIndex, boolean[] values, long[] nulls) {
+    return new BooleanBuffer(columnIndex, values, nulls);
+  }
+
+  public int getColumnIndex() {
+    return columnIndex;
+  }
+
+  /**
+   * Check buffer can receive values.
+   *
+   * @param rows number of rows to decode
+   * @param columnCount result-set column number
+   * @param exceptionFactory connection exception factory
+   * @throws SQLException if column index is invalid or arrays are too small
+   */
+  void validate(int rows, int columnCount, ExceptionFactory exceptionFactory) throws SQLException {
+    if (columnIndex < 1 || columnIndex > columnCount) {
+      throw exceptionFactory.create(
+          String.format(
+              "Wrong index position. Is %s but must be in 1-%s range", columnIndex, columnCount),
+          "HY000");
+    }
+    if (capacity() < rows) {
+      throw exceptionFactory.create(
+          String.format(
+              "Array for column %s has length %s, but %s rows are requested",
+              columnIndex, capacity(), rows),
+          "HY000");
+    }
+    if (nulls != null && nulls.length * 64L < rows) {
+      throw exceptionFactory.create(
+          String.format(
+              "Null bitmap for column %s can only contain %s rows, but %s rows are requested",
+              columnIndex, nulls.length * 64L, rows),
+          "HY000");
+    }
+  }
+
+  /**
+   * Decode column of current row.
+   *
+   * @param row row decoder, positioned on a row
+   * @param rowIndex array index
+   * @throws SQLException if value cannot be decoded
+   */
+  void read(RowDecoder row, int rowIndex) throws SQLException {
+    row.setPosition(columnIndex - 1);
+    if (row.wasNull()) {
+      setNull(rowIndex);
+      if (nulls != null) nulls[rowIndex >>> 6] |= 1L << rowIndex;
+    } else {
+      decode(row, rowIndex);
+      if (nulls != null) nulls[rowIndex >>> 6] &= ~(1L << rowIndex);
+    }
+  }
+
+  abstract int capacity();
+
+  abstract void setNull(int rowIndex);
+
+  abstract void decode(RowDecoder row, int rowIndex) throws SQLException;
+
+  private static final class LongBuffer extends ColumnBuffer {
+    private final long[] values;
+
+    LongBuffer(int columnIndex, long[] values, long[] nulls) {
+      super(columnIndex, nulls);
+      this.values = values;
+    }
+
+    @Override
+    int capacity() {
+      return values.length;
+    }
+
+    @Override
+    void setNull(int rowIndex) {
+      values[rowIndex] = 0L;
+    }
+
+    @Override
+    void decode(RowDecoder row, int rowIndex) throws SQLException {
+      values[rowIndex] = row.decodeLong();
+    }
+  }
+
+  private static final class IntBuffer extends ColumnBuffer {
+    private final int[] values;
+
+    IntBuffer(int columnIndex, int[] values, long[] nulls) {
+      super(columnIndex, nulls);
+      this.values = values;
+    }
+
+    @Override
+    int capacity() {
+      return values.length;
+    }
+
+    @Override
+    void setNull(int rowIndex) {
+      values[rowIndex] = 0;
+    }
+
+    @Override
+    void decode(RowDecoder row, int rowIndex) throws SQLException {
+      values[rowIndex] = row.decodeInt();
+    }
+  }
+
+  private static final class DoubleBuffer extends ColumnBuffer {
+    private final double[] values;
+
+    DoubleBuffer(int columnIndex, double[] values, long[] nulls) {
+      super(columnIndex, nulls);
+      this.values = values;
+    }
+
+    @Override
+    int capacity() {
+      return values.length;
+    }
+
+    @Override
+    void setNull(int rowIndex) {
+      values[rowIndex] = 0D;
+    }
+
+    @Override
+    void decode(RowDecoder row, int rowIndex) throws SQLException {
+      values[rowIndex] = row.decodeDouble();
+    }
+  }
+
+  private static final class BooleanBuffer extends ColumnBuffer {
+    private final boolean[] values;
+
+    BooleanBuffer(int columnIndex, boolean[] values, long[] nulls) {
+      super(columnIndex, nulls);
+      this.values = values;
+    }
+
+    @Override
+    int capacity() {
+      return values.length;
+    }
+
+    @Override
+    void setNull(int rowIndex) {
+      values[rowIndex] = false;
+    }
+
+    @Override
+    void decode(RowDecoder row, int rowIndex) throws SQLException {
+      values[rowIndex] = row.decodeBoolean();
+    }
+  }
+}
@@ -0,0 +1,40 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.client.result;
+
+import java.sql.SQLException;
+
+/**
+ * MariaDB extension decoding following rows by batch into primitive arrays, avoiding per value
+ * call, index validation and boxing overhead. Available for any result set using {@code
+ * resultSet.unwrap(ColumnarResultSet.class)}, for text and binary protocol.
+ *
+ * <pre>{@code
+ * long[] ids = new long[1024];
+ * double[] amounts = new double[1024];
+ * long[] amountNulls = new long[16];
+ * ColumnarResultSet columnar = rs.unwrap(ColumnarResultSet.class);
+ * int rows;
+ * while ((rows = columnar.fetchColumns(1024,
+ *     ColumnBuffer.of(1, ids, null),
+ *     ColumnBuffer.of(2, amounts, amountNulls))) > 0) {
+ *   ...
+ * }
+ * }</pre>
+ */
+public interface ColumnarResultSet {
+
+  /**
+   * Decode up to {@code rows} next rows into buffers, starting at array index 0. Result set is then
+   * positioned on last decoded row.
+   *
+   * @param rows maximum number of rows to decode
+   * @param buffers columns to decode, with destination arrays
+   * @return number of decoded rows, 0 if there is no more rows
+   * @throws SQLException if a column index is invalid, an array is too small, or a value cannot be
+   *     decoded to buffer type
+   */
+  int fetchColumns(int rows, ColumnBuffer... buffers) throws SQLException;
+}
@@ -44,6 +44,7 @@ public class CompleteResult extends Result {
         closeOnCompletion,
         traceEnable);
     this.data = new byte[10][];
+    useSlabStorage();
     if (maxRows > 0) {
       while (readNext() && dataSize < maxRows) {}
       if (!loaded) skipRemaining();
@@ -115,7 +116,7 @@ public class CompleteResult extends Result {
   @Override
   public boolean next() throws SQLException {
     if (rowPointer < dataSize - 1) {
-      row.setRow(data[++rowPointer]);
+      setRowData(++rowPointer);
       return true;
     } else {
       // all data are reads and pointer is after last
@@ -187,7 +188,7 @@ public class CompleteResult extends Result {
       row.setRow(null);
       return false;
     }
-    row.setRow(data[rowPointer]);
+    setRowData(rowPointer);
     return true;
   }
 
@@ -199,7 +200,7 @@ public class CompleteResult extends Result {
       row.setRow(null);
       return false;
     }
-    row.setRow(data[rowPointer]);
+    setRowData(rowPointer);
     return true;
   }
 
@@ -220,13 +221,13 @@ public class CompleteResult extends Result {
 
     if (idx > 0) {
       rowPointer = idx - 1;
-      row.setRow(data[rowPointer]);
+      setRowData(rowPointer);
       return true;
     } else {
       if (dataSize + idx >= 0) {
         // absolute position reverse from ending resultSet
         rowPointer = dataSize + idx;
-        row.setRow(data[rowPointer]);
+        setRowData(rowPointer);
         return true;
       }
       rowPointer = BEFORE_FIRST_POS;
@@ -249,7 +250,7 @@ public class CompleteResult extends Result {
       return false;
     } else {
       rowPointer = newPos;
-      row.setRow(data[rowPointer]);
+      setRowData(rowPointer);
       return true;
     }
   }
@@ -260,7 +261,7 @@ public class CompleteResult extends Result {
     if (rowPointer > BEFORE_FIRST_POS) {
       rowPointer--;
       if (rowPointer != BEFORE_FIRST_POS) {
-        row.setRow(data[rowPointer]);
+        setRowData(rowPointer);
         return true;
       }
     }
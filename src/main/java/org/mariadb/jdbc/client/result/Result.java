@@ -30,7 +30,7 @@ import org.mariadb.jdbc.message.server.ErrorPacket;
 import org.mariadb.jdbc.util.constants.ServerStatus;
 import org.mariadb.jdbc.util.exceptions.ExceptionFactory;
 
-public abstract class Result implements ResultSet, Completion {
+public abstract class Result implements ResultSet, Completion, ColumnarResultSet {
 
   protected final int resultSetType;
   protected final ExceptionFactory exceptionFactory;
@@ -40,8 +40,22 @@ public abstract class Result implements ResultSet, Completion {
   private final boolean closeOnCompletion;
   protected final ColumnDefinitionPacket[] metadataList;
   protected final RowDecoder row;
+  /** Initial slab length. */
+  private static final int MIN_SLAB_LENGTH = 8192;
+
+  /** Maximum slab length. Bigger rows are stored in their own array. */
+  private static final int MAX_SLAB_LENGTH = 1024 * 1024;
+
   protected int dataSize = 0;
   protected byte[][] data;
+  // when not null, rows are part of a bigger array: data[i] is either a shared receive buffer
+  // view, or a slab containing consecutive rows
+  protected int[] dataOffset;
+  protected int[] dataLength;
+  // when set, row content is copied to slabs, avoiding one array per row
+  protected boolean slabStorage;
+  private byte[] slab;
+  private int slabPos;
   protected boolean loaded;
   protected boolean outputParameter;
   protected int rowPointer = -1;
@@ -49,7 +63,7 @@ public abstract class Result implements ResultSet, Completion {
   protected Statement statement;
   protected long maxRows;
   private boolean forceAlias;
-  private final boolean traceEnable;
+  protected final boolean traceEnable;
 
   public Result(
       org.mariadb.jdbc.Statement stmt,
@@ -92,90 +106,132 @@ public abstract class Result implements ResultSet, Completion {
     row = new TextRowDecoder(maxIndex, metadataList, context.getConf());
   }
 
-  @SuppressWarnings("fallthrough")
   protected boolean readNext() throws SQLException, IOException {
-    byte[] buf = reader.readPacket(false, traceEnable).buf();
-    switch (buf[0]) {
-      case (byte) 0xFF:
-        loaded = true;
-        ErrorPacket errorPacket =
-            new ErrorPacket(new ReadableByteBuf(null, buf, buf.length), context);
-        throw exceptionFactory.create(
-            errorPacket.getMessage(), errorPacket.getSqlState(), errorPacket.getErrorCode());
+    ReadableByteBuf buf =
+        slabStorage
+            ? reader.readPacket(true, traceEnable)
+            : dataOffset != null
+                ? reader.readPacketView(traceEnable)
+                : reader.readPacket(false, traceEnable);
+    if (isResultEnd(buf)) {
+      readResultEnd(buf);
+      return false;
+    }
+    if (dataSize + 1 > data.length) {
+      growDataArray();
+    }
+    if (slabStorage) {
+      addSlabRow(buf, data, dataOffset, dataLength, dataSize++);
+    } else {
+      if (dataOffset != null) {
+        dataOffset[dataSize] = buf.pos();
+        dataLength[dataSize] = buf.readableBytes();
+      }
+      data[dataSize++] = buf.buf();
+    }
+    return true;
+  }
 
+  /**
+   * Indicate if packet ends result-set rows, being either an error packet or an EOF/OK packet.
+   *
+   * @param buf packet
+   * @return true if packet is not a row
+   */
+  protected boolean isResultEnd(ReadableByteBuf buf) {
+    switch (buf.getByte()) {
+      case (byte) 0xFF:
+        return true;
       case (byte) 0xFE:
-        if ((context.isEofDeprecated() && buf.length < 16777215)
-            || (!context.isEofDeprecated() && buf.length < 8)) {
-          ReadableByteBuf readBuf = new ReadableByteBuf(null, buf, buf.length);
-          readBuf.skip(); // skip header
-          int serverStatus;
-          int warnings;
-
-          if (!context.isEofDeprecated()) {
-            // EOF_Packet
-            warnings = readBuf.readUnsignedShort();
-            serverStatus = readBuf.readUnsignedShort();
-          } else {
-            // OK_Packet with a 0xFE header
-            readBuf.skip(readBuf.readLengthNotNull()); // skip update count
-            readBuf.skip(readBuf.readLengthNotNull()); // skip insert id
-            serverStatus = readBuf.readUnsignedShort();
-            warnings = readBuf.readUnsignedShort();
-          }
-          outputParameter = (serverStatus & ServerStatus.PS_OUT_PARAMETERS) != 0;
-          context.setServerStatus(serverStatus);
-          context.setWarning(warnings);
-          loaded = true;
-          return false;
-        }
-
-        // continue reading rows
-
+        return (context.isEofDeprecated() && buf.readableBytes() < 0xffffff)
+            || (!context.isEofDeprecated() && buf.readableBytes() < 8);
       default:
-        if (dataSize + 1 > data.length) {
-          growDataArray();
-        }
-        data[dataSize++] = buf;
+        return false;
     }
-    return true;
   }
 
-  @SuppressWarnings("fallthrough")
+  /**
+   * Read packet ending result-set rows, updating server status.
+   *
+   * @param buf EOF/OK or error packet
+   * @throws SQLException if packet is an error packet
+   */
+  protected void readResultEnd(ReadableByteBuf buf) throws SQLException {
+    loaded = true;
+    if (buf.getByte() == (byte) 0xFF) {
+      ErrorPacket errorPacket = new ErrorPacket(buf, context);
+      throw exceptionFactory.create(
+          errorPacket.getMessage(), errorPacket.getSqlState(), errorPacket.getErrorCode());
+    }
+
+    buf.skip(); // skip header
+    int serverStatus;
+    int warnings;
+
+    if (!context.isEofDeprecated()) {
+      // EOF_Packet
+      warnings = buf.readUnsignedShort();
+      serverStatus = buf.readUnsignedShort();
+    } else {
+      // OK_Packet with a 0xFE header
+      buf.skip(buf.readLengthNotNull()); // skip update count
+      buf.skip(buf.readLengthNotNull()); // skip insert id
+      serverStatus = buf.readUnsignedShort();
+      warnings = buf.readUnsignedShort();
+    }
+    outputParameter = (serverStatus & ServerStatus.PS_OUT_PARAMETERS) != 0;
+    context.setServerStatus(serverStatus);
+    context.setWarning(warnings);
+  }
+
+  /**
+   * Copy row content at the end of current slab, allocating a new slab if full. Rows read in their
+   * own exact-size array (packets bigger than receive buffer) are stored as is, without copy.
+   *
+   * @param buf row packet
+   * @param data row arrays
+   * @param dataOffset row offsets
+   * @param dataLength row lengths
+   * @param index row index
+   */
+  protected void addSlabRow(
+      ReadableByteBuf buf, byte[][] data, int[] dataOffset, int[] dataLength, int index) {
+    int len = buf.readableBytes();
+    if (buf.pos() == 0 && buf.buf().length == len) {
+      // large row has already been read to a new array: no copy needed
+      data[index] = buf.buf();
+      dataOffset[index] = 0;
+    } else if (len > MAX_SLAB_LENGTH / 4) {
+      data[index] = Arrays.copyOfRange(buf.buf(), buf.pos(), buf.pos() + len);
+      dataOffset[index] = 0;
+    } else {
+      if (slab == null || slabPos + len > slab.length) {
+        int slabLength =
+            slab == null ? MIN_SLAB_LENGTH : Math.min(MAX_SLAB_LENGTH, slab.length << 1);
+        slab = new byte[Math.max(len, slabLength)];
+        slabPos = 0;
+      }
+      System.arraycopy(buf.buf(), buf.pos(), slab, slabPos, len);
+      data[index] = slab;
+      dataOffset[index] = slabPos;
+      slabPos += len;
+    }
+    dataLength[index] = len;
+  }
+
+  /** Store rows in slabs. */
+  protected void useSlabStorage() {
+    slabStorage = true;
+    dataOffset = new int[data.length];
+    dataLength = new int[data.length];
+  }
+
   protected void skipRemaining() throws SQLException, IOException {
     while (true) {
       ReadableByteBuf buf = reader.readPacket(true, traceEnable);
-      switch (buf.getUnsignedByte()) {
-        case 0xFF:
-          loaded = true;
-          ErrorPacket errorPacket = new ErrorPacket(buf, context);
-          throw exceptionFactory.create(
-              errorPacket.getMessage(), errorPacket.getSqlState(), errorPacket.getErrorCode());
-
-        case 0xFE:
-          if ((context.isEofDeprecated() && buf.readableBytes() < 0xffffff)
-              || (!context.isEofDeprecated() && buf.readableBytes() < 8)) {
-
-            buf.skip(); // skip header
-            int serverStatus;
-            int warnings;
-
-            if (!context.isEofDeprecated()) {
-              // EOF_Packet
-              warnings = buf.readUnsignedShort();
-              serverStatus = buf.readUnsignedShort();
-            } else {
-              // OK_Packet with a 0xFE header
-              buf.skip(buf.readLengthNotNull()); // skip update count
-              buf.skip(buf.readLengthNotNull()); // skip insert id
-              serverStatus = buf.readUnsignedShort();
-              warnings = buf.readUnsignedShort();
-            }
-            outputParameter = (serverStatus & ServerStatus.PS_OUT_PARAMETERS) != 0;
-            context.setServerStatus(serverStatus);
-            context.setWarning(warnings);
-            loaded = true;
-            return;
-          }
+      if (isResultEnd(buf)) {
+        readResultEnd(buf);
+        return;
       }
     }
   }
@@ -184,11 +240,44 @@ public abstract class Result implements ResultSet, Completion {
   private void growDataArray() {
     int newCapacity = data.length + (data.length >> 1);
     data = Arrays.copyOf(data, newCapacity);
+    if (dataOffset != null) {
+      dataOffset = Arrays.copyOf(dataOffset, newCapacity);
+      dataLength = Arrays.copyOf(dataLength, newCapacity);
+    }
+  }
+
+  /**
+   * Set row decoder to data of row at index.
+   *
+   * @param index row index
+   */
+  protected void setRowData(int index) {
+    if (dataOffset != null) {
+      row.setRow(data[index], dataOffset[index], dataLength[index]);
+    } else {
+      row.setRow(data[index]);
+    }
   }
 
   @Override
   public abstract boolean next() throws SQLException;
 
+  @Override
+  public int fetchColumns(int rows, ColumnBuffer... buffers) throws SQLException {
+    checkClose();
+    for (ColumnBuffer buffer : buffers) {
+      buffer.validate(rows, maxIndex, exceptionFactory);
+    }
+    int rowIndex = 0;
+    while (rowIndex < rows && next()) {
+      for (ColumnBuffer buffer : buffers) {
+        buffer.read(row, rowIndex);
+      }
+      rowIndex++;
+    }
+    return rowIndex;
+  }
+
   public abstract boolean streaming();
 
   public abstract void fetchRemaining() throws SQLException;
@@ -231,6 +320,9 @@ public abstract class Result implements ResultSet, Completion {
   }
 
   protected byte[] getCurrentRowData() {
+    if (dataOffset != null) {
+      return Arrays.copyOfRange(data[0], dataOffset[0], dataOffset[0] + dataLength[0]);
+    }
     return data[0];
   }
 
@@ -238,11 +330,19 @@ public abstract class Result implements ResultSet, Completion {
     if (dataSize + 1 > data.length) {
       growDataArray();
     }
+    if (dataOffset != null) {
+      dataOffset[dataSize] = 0;
+      dataLength[dataSize] = buf.length;
+    }
     data[dataSize++] = buf;
   }
 
   protected void updateRowData(byte[] rawData) {
     data[rowPointer] = rawData;
+    if (dataOffset != null) {
+      dataOffset[rowPointer] = 0;
+      dataLength[rowPointer] = rawData.length;
+    }
     row.setRow(rawData);
   }
 
@@ -253,7 +353,7 @@ public abstract class Result implements ResultSet, Completion {
 
   @Override
   public String getString(int columnIndex) throws SQLException {
-    return row.getValue(columnIndex, StringCodec.INSTANCE, null);
+    return row.getStringValue(columnIndex);
   }
 
   @Override
@@ -345,7 +445,7 @@ public abstract class Result implements ResultSet, Completion {
 
   @Override
   public String getString(String columnLabel) throws SQLException {
-    return row.getValue(columnLabel, StringCodec.INSTANCE, null);
+    return row.getStringValue(row.getIndex(columnLabel));
   }
 
   @Override
@@ -819,8 +919,8 @@ public abstract class Result implements ResultSet, Completion {
   }
 
   public void useAliasAsName() {
-    for (ColumnDefinitionPacket packet : metadataList) {
-      packet.useAliasAsName();
+    for (int i = 0; i < metadataList.length; i++) {
+      metadataList[i] = metadataList[i].useAliasAsName();
     }
     forceAlias = true;
   }
@@ -915,7 +1015,7 @@ public abstract class Result implements ResultSet, Completion {
 
   @Override
   public URL getURL(int columnIndex) throws SQLException {
-    String s = row.getValue(columnIndex, StringCodec.INSTANCE, null);
+    String s = row.getStringValue(columnIndex);
     if (s == null) return null;
     try {
       return new URL(s);
@@ -1051,12 +1151,12 @@ public abstract class Result implements ResultSet, Completion {
 
   @Override
   public String getNString(int columnIndex) throws SQLException {
-    return row.getValue(columnIndex, StringCodec.INSTANCE, null);
+    return row.getStringValue(columnIndex);
   }
 
   @Override
   public String getNString(String columnLabel) throws SQLException {
-    return row.getValue(columnLabel, StringCodec.INSTANCE, null);
+    return row.getStringValue(row.getIndex(columnLabel));
   }
 
   @Override
@@ -0,0 +1,156 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.client.result;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Demand driven row streaming, following reactive streams rules. Query is executed on first
+ * request, then rows are read from socket only when requested: each fetch reads at most the pending
+ * demand, up to {@link #MAX_FETCH_SIZE} rows. Cancellation skips remaining rows.
+ *
+ * <p>Rows are emitted as the result set positioned on the row: values are decoded only when
+ * retrieved, and row is only valid during {@link #onNext(ResultSet)} call.
+ */
+public abstract class RowSubscription {
+
+  /** Maximum number of rows read from socket at once, bounding memory use. */
+  public static final int MAX_FETCH_SIZE = 512;
+
+  private final Statement stmt;
+  private final String sql;
+  private final AtomicLong demand = new AtomicLong();
+  private final AtomicInteger wip = new AtomicInteger();
+  private volatile boolean cancelled;
+  private volatile Throwable requestError;
+  private boolean done;
+  private ResultSet result;
+
+  /**
+   * Constructor.
+   *
+   * @param stmt statement used to execute query
+   * @param sql query
+   */
+  public RowSubscription(Statement stmt, String sql) {
+    this.stmt = stmt;
+    this.sql = sql;
+  }
+
+  /**
+   * Row is available.
+   *
+   * @param row result set positioned on the row
+   */
+  protected abstract void onNext(ResultSet row);
+
+  /**
+   * An error occurs. No more signal will be sent.
+   *
+   * @param throwable error
+   */
+  protected abstract void onError(Throwable throwable);
+
+  /** All rows have been sent. No more signal will be sent. */
+  protected abstract void onComplete();
+
+  /**
+   * Add demand, reading and emitting rows as long as there is demand.
+   *
+   * @param n number of additional rows requested
+   */
+  public void request(long n) {
+    if (n <= 0) {
+      requestError = new IllegalArgumentException("non-positive request number (rule 3.9) : " + n);
+    } else {
+      long current;
+      long next;
+      do {
+        current = demand.get();
+        if (current == Long.MAX_VALUE) break;
+        next = current + n;
+        if (next < 0) next = Long.MAX_VALUE;
+      } while (!demand.compareAndSet(current, next));
+    }
+    drain();
+  }
+
+  /** Stop emitting rows, skipping remaining ones. */
+  public void cancel() {
+    cancelled = true;
+    drain();
+  }
+
+  /** Serialize emission: only one thread emits, other calls are noted and handled by it. */
+  private void drain() {
+    if (wip.getAndIncrement() != 0) return;
+    int missed = 1;
+    do {
+      emit();
+      missed = wip.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void emit() {
+    if (done) return;
+    try {
+      if (cancelled || requestError != null) {
+        done = true;
+        closeResult();
+        if (requestError != null && !cancelled) onError(requestError);
+        return;
+      }
+
+      long requested = demand.get();
+      if (requested == 0) return;
+      if (result == null) {
+        stmt.setFetchSize(fetchSize(requested));
+        result = stmt.executeQuery(sql);
+      }
+
+      long emitted = 0;
+      while (emitted != requested) {
+        if (cancelled || requestError != null) return;
+        result.setFetchSize(fetchSize(requested - emitted));
+        if (!result.next()) {
+          done = true;
+          closeResult();
+          onComplete();
+          return;
+        }
+        onNext(result);
+        emitted++;
+        if (emitted == requested) {
+          // subscriber might have requested more during onNext
+          requested = demand.addAndGet(-emitted);
+          emitted = 0;
+        }
+      }
+    } catch (SQLException | RuntimeException e) {
+      done = true;
+      try {
+        closeResult();
+      } catch (SQLException | RuntimeException closeException) {
+        // eat
+      }
+      onError(e);
+    }
+  }
+
+  private static int fetchSize(long requested) {
+    return (int) Math.min(requested, MAX_FETCH_SIZE);
+  }
+
+  private void closeResult() throws SQLException {
+    if (result != null) {
+      result.close();
+      result = null;
+    }
+  }
+}
@@ -6,11 +6,18 @@ package org.mariadb.jdbc.client.result;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.ReentrantLock;
 import org.mariadb.jdbc.Statement;
+import org.mariadb.jdbc.client.ReadableByteBuf;
 import org.mariadb.jdbc.client.context.Context;
 import org.mariadb.jdbc.client.socket.PacketReader;
 import org.mariadb.jdbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.jdbc.pool.PoolThreadFactory;
 
 public class StreamingResult extends Result {
 
@@ -18,6 +25,17 @@ public class StreamingResult extends Result {
   private int dataFetchTime;
   private int fetchSize;
 
+  // read-ahead of next batch, when option `streamingPrefetch` is set.
+  // While a prefetch task is pending, socket is owned by the task: any read first waits for it,
+  // and client fetches remaining rows before sending any other command.
+  private final boolean prefetch;
+  private Future<?> prefetchTask;
+  private byte[][] nextData;
+  private int[] nextOffset;
+  private int[] nextLength;
+  private int nextSize;
+  private ReadableByteBuf nextEnd;
+
   public StreamingResult(
       Statement stmt,
       boolean binaryProtocol,
@@ -46,8 +64,26 @@ public class StreamingResult extends Result {
     this.dataFetchTime = 0;
     this.fetchSize = fetchSize;
     this.data = new byte[Math.max(fetchSize, 10)][];
+    this.prefetch =
+        context.getConf().streamingPrefetch()
+            && resultSetType == TYPE_FORWARD_ONLY
+            && fetchSize > 0;
+    if (resultSetType == TYPE_FORWARD_ONLY && !prefetch) {
+      // rows are discarded on next fetch, so can directly use views in receive buffer
+      this.dataOffset = new int[this.data.length];
+      this.dataLength = new int[this.data.length];
+    } else {
+      // rows are kept, or receive buffer is used by prefetch task while rows are read
+      useSlabStorage();
+    }
 
     addStreamingValue();
+    if (prefetch) {
+      nextData = new byte[data.length][];
+      nextOffset = new int[data.length];
+      nextLength = new int[data.length];
+      startPrefetch();
+    }
   }
 
   @Override
@@ -69,18 +105,130 @@ public class StreamingResult extends Result {
     }
 
     addStreamingValue();
+    if (prefetch) startPrefetch();
+  }
+
+  /**
+   * Number of rows to read in next fetch.
+   *
+   * @return row number
+   */
+  private int nextFetchSize() {
+    return (maxRows <= 0)
+        ? fetchSize
+        : Math.min(fetchSize, Math.max(0, (int) (maxRows - dataFetchTime * fetchSize)));
+  }
+
+  /** Start reading next batch of rows in background, if any. */
+  private void startPrefetch() {
+    int fetchSizeTmp = nextFetchSize();
+    if (loaded || fetchSizeTmp <= 0) return;
+    if (nextData.length < fetchSizeTmp) {
+      nextData = new byte[fetchSizeTmp][];
+      nextOffset = new int[fetchSizeTmp];
+      nextLength = new int[fetchSizeTmp];
+    }
+    prefetchTask = PrefetchExecutor.EXECUTOR.submit(() -> readAhead(fetchSizeTmp));
+  }
+
+  /**
+   * Read rows in next buffers. Executed by prefetch thread, so must not modify current rows nor
+   * result state: ending packet is only kept to be read when rows are used.
+   *
+   * @param fetchSizeTmp maximum number of rows to read
+   * @return null
+   * @throws IOException if any socket error occurs
+   */
+  private Void readAhead(int fetchSizeTmp) throws IOException {
+    nextSize = 0;
+    nextEnd = null;
+    while (nextSize < fetchSizeTmp) {
+      ReadableByteBuf buf = reader.readPacket(true, traceEnable);
+      if (isResultEnd(buf)) {
+        byte[] end = Arrays.copyOfRange(buf.buf(), buf.pos(), buf.pos() + buf.readableBytes());
+        nextEnd = new ReadableByteBuf(buf.getSequence(), end, end.length);
+        break;
+      }
+      addSlabRow(buf, nextData, nextOffset, nextLength, nextSize++);
+    }
+    return null;
+  }
+
+  /**
+   * Wait for prefetch task, then add read-ahead rows to current rows.
+   *
+   * @throws SQLException if prefetch failed or result ends with an error
+   */
+  private void addPrefetchedValue() throws SQLException {
+    Future<?> task = prefetchTask;
+    prefetchTask = null;
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          task.get();
+          break;
+        } catch (InterruptedException ie) {
+          // socket cannot be used until task ends
+          interrupted = true;
+        }
+      }
+    } catch (ExecutionException e) {
+      loaded = true;
+      Throwable cause = e.getCause();
+      throw exceptionFactory.create(
+          "Error while streaming resultSet data",
+          "08000",
+          cause instanceof Exception ? (Exception) cause : e);
+    } finally {
+      if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    if (dataSize == 0) {
+      // swap buffers, current ones will be used by next prefetch
+      byte[][] tmpData = data;
+      int[] tmpOffset = dataOffset;
+      int[] tmpLength = dataLength;
+      data = nextData;
+      dataOffset = nextOffset;
+      dataLength = nextLength;
+      nextData = tmpData;
+      nextOffset = tmpOffset;
+      nextLength = tmpLength;
+      dataSize = nextSize;
+    } else {
+      if (dataSize + nextSize > data.length) {
+        int newCapacity = Math.max(dataSize + nextSize, data.length + (data.length >> 1));
+        data = Arrays.copyOf(data, newCapacity);
+        dataOffset = Arrays.copyOf(dataOffset, newCapacity);
+        dataLength = Arrays.copyOf(dataLength, newCapacity);
+      }
+      System.arraycopy(nextData, 0, data, dataSize, nextSize);
+      System.arraycopy(nextOffset, 0, dataOffset, dataSize, nextSize);
+      System.arraycopy(nextLength, 0, dataLength, dataSize, nextSize);
+      dataSize += nextSize;
+    }
+    // release references to previous rows
+    Arrays.fill(nextData, null);
+
+    if (nextEnd != null) {
+      ReadableByteBuf end = nextEnd;
+      nextEnd = null;
+      readResultEnd(end);
+    }
   }
 
   private void addStreamingValue() throws SQLException {
     lock.lock();
     try {
-      // read only fetchSize values
-      int fetchSizeTmp =
-          (maxRows <= 0)
-              ? fetchSize
-              : Math.min(fetchSize, Math.max(0, (int) (maxRows - dataFetchTime * fetchSize)));
-      while (fetchSizeTmp > 0 && readNext()) {
-        fetchSizeTmp--;
+      if (prefetchTask != null) {
+        addPrefetchedValue();
+      } else {
+        // read only fetchSize values
+        int fetchSizeTmp = nextFetchSize();
+        while (fetchSizeTmp > 0 && readNext()) {
+          fetchSizeTmp--;
+        }
       }
       dataFetchTime++;
       if (maxRows > 0 && dataFetchTime * fetchSize >= maxRows && !loaded) skipRemaining();
@@ -106,12 +254,25 @@ public class StreamingResult extends Result {
     }
   }
 
+  @Override
+  public void close() throws SQLException {
+    if (prefetchTask != null) {
+      lock.lock();
+      try {
+        if (prefetchTask != null) addPrefetchedValue();
+      } finally {
+        lock.unlock();
+      }
+    }
+    super.close();
+  }
+
   @Override
   public boolean next() throws SQLException {
     checkClose();
     if (rowPointer < dataSize - 1) {
       rowPointer++;
-      row.setRow(data[rowPointer]);
+      setRowData(rowPointer);
       return true;
     } else {
       if (!loaded) {
@@ -128,7 +289,7 @@ public class StreamingResult extends Result {
           // resultSet has been cleared. next value is pointer 0.
           rowPointer = 0;
           if (dataSize > 0) {
-            row.setRow(data[rowPointer]);
+            setRowData(rowPointer);
             return true;
           }
         } else {
@@ -136,7 +297,7 @@ public class StreamingResult extends Result {
           // results have been added to current resultSet
           rowPointer++;
           if (dataSize > rowPointer) {
-            row.setRow(data[rowPointer]);
+            setRowData(rowPointer);
             return true;
           }
         }
@@ -221,7 +382,7 @@ public class StreamingResult extends Result {
 
     rowPointer = 0;
     if (dataSize > 0) {
-      row.setRow(data[rowPointer]);
+      setRowData(rowPointer);
       return true;
     }
     row.setRow(null);
@@ -234,7 +395,7 @@ public class StreamingResult extends Result {
     fetchRemaining();
     rowPointer = dataSize - 1;
     if (dataSize > 0) {
-      row.setRow(data[rowPointer]);
+      setRowData(rowPointer);
       return true;
     }
     row.setRow(null);
@@ -263,7 +424,7 @@ public class StreamingResult extends Result {
 
     if (idx > 0 && idx <= dataSize) {
       rowPointer = idx - 1;
-      row.setRow(data[rowPointer]);
+      setRowData(rowPointer);
       return true;
     }
 
@@ -273,7 +434,7 @@ public class StreamingResult extends Result {
     if (idx > 0) {
       if (idx <= dataSize) {
         rowPointer = idx - 1;
-        row.setRow(data[rowPointer]);
+        setRowData(rowPointer);
         return true;
       }
 
@@ -285,7 +446,7 @@ public class StreamingResult extends Result {
       if (dataSize + idx >= 0) {
         // absolute position reverse from ending resultSet
         rowPointer = dataSize + idx;
-        row.setRow(data[rowPointer]);
+        setRowData(rowPointer);
         return true;
       }
       row.setRow(null);
@@ -315,7 +476,7 @@ public class StreamingResult extends Result {
     }
 
     rowPointer = newPos;
-    row.setRow(data[rowPointer]);
+    setRowData(rowPointer);
     return true;
   }
 
@@ -326,7 +487,7 @@ public class StreamingResult extends Result {
     if (rowPointer > -1) {
       rowPointer--;
       if (rowPointer != -1) {
-        row.setRow(data[rowPointer]);
+        setRowData(rowPointer);
         return true;
       }
     }
@@ -352,4 +513,10 @@ public class StreamingResult extends Result {
     }
     this.fetchSize = fetchSize;
   }
+
+  /** Threads reading next rows in advance, created on first use. */
+  private static final class PrefetchExecutor {
+    private static final ExecutorService EXECUTOR =
+        Executors.newCachedThreadPool(new PoolThreadFactory("MariaDb-streaming-prefetch"));
+  }
 }
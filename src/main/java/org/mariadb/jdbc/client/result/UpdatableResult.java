@@ -710,6 +710,12 @@ public class UpdatableResult extends CompleteResult {
 
       // remove data
       System.arraycopy(data, rowPointer + 1, data, rowPointer, dataSize - 1 - rowPointer);
+      if (dataOffset != null) {
+        System.arraycopy(
+            dataOffset, rowPointer + 1, dataOffset, rowPointer, dataSize - 1 - rowPointer);
+        System.arraycopy(
+            dataLength, rowPointer + 1, dataLength, rowPointer, dataSize - 1 - rowPointer);
+      }
       data[dataSize - 1] = null;
       dataSize--;
       previous();
@@ -1002,7 +1008,7 @@ public class UpdatableResult extends CompleteResult {
   private void resetToRowPointer() {
     rowPointer = savedRowPointer;
     if (rowPointer != BEFORE_FIRST_POS && rowPointer < dataSize - 1) {
-      row.setRow(data[rowPointer]);
+      setRowData(rowPointer);
     } else {
       // all data are reads and pointer is after last
       row.setRow(null);
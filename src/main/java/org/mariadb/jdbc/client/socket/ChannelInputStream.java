@@ -0,0 +1,119 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.client.socket;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * InputStream reading a channel through a pooled direct buffer. Like {@link
+ * ReadAheadBufferedStream}, available data are read in one call, not only asked bytes.
+ *
+ * <p>Stream can be closed by another thread (abort) while a read is pending: buffer is then only
+ * given back to pool by reading thread, once leaving read.
+ */
+public class ChannelInputStream extends InputStream {
+
+  private final ReadableByteChannel channel;
+  private final ReentrantLock lock = new ReentrantLock();
+  private volatile boolean closed;
+  private ByteBuffer buf;
+
+  public ChannelInputStream(ReadableByteChannel channel) {
+    this.channel = channel;
+    this.buf = DirectBufferPool.acquire(DirectBufferPool.BUFFER_SIZE);
+    this.buf.flip();
+  }
+
+  private boolean fill() throws IOException {
+    buf.clear();
+    int count;
+    try {
+      count = channel.read(buf);
+    } finally {
+      buf.flip();
+    }
+    return count > 0;
+  }
+
+  @Override
+  public int read() throws IOException {
+    lock.lock();
+    try {
+      if (closed) throw new ClosedChannelException();
+      if (!buf.hasRemaining() && !fill()) return -1;
+      return buf.get() & 0xff;
+    } finally {
+      unlock();
+    }
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) return 0;
+    lock.lock();
+    try {
+      if (closed) throw new ClosedChannelException();
+      if (!buf.hasRemaining() && !fill()) return -1;
+      int copyLength = Math.min(len, buf.remaining());
+      buf.get(b, off, copyLength);
+      return copyLength;
+    } finally {
+      unlock();
+    }
+  }
+
+  private void unlock() {
+    // stream closed while reading: buffer is given back only now it is not used anymore
+    if (closed) release();
+    lock.unlock();
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    throw new IOException("Skip from socket not implemented");
+  }
+
+  @Override
+  public int available() {
+    return buf == null ? 0 : buf.remaining();
+  }
+
+  /**
+   * Give back buffer to pool without closing channel. Used when another layer (TLS) takes the
+   * channel over.
+   */
+  public void release() {
+    ByteBuffer released = buf;
+    buf = ByteBuffer.allocate(0);
+    DirectBufferPool.release(released);
+  }
+
+  /**
+   * Close channel. If a read is pending in another thread, buffer will be given back by this
+   * thread, once channel closing has ended read.
+   *
+   * @throws IOException if any error occurs closing channel
+   */
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    try {
+      channel.close();
+    } finally {
+      if (lock.tryLock()) {
+        try {
+          release();
+        } finally {
+          lock.unlock();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,120 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.client.socket;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * OutputStream writing to a channel through a pooled direct buffer, sent on flush.
+ *
+ * <p>Stream can be closed by another thread (abort) while a write is pending: buffer is then only
+ * given back to pool by writing thread, once leaving write.
+ */
+public class ChannelOutputStream extends OutputStream {
+
+  private final WritableByteChannel channel;
+  private final ReentrantLock lock = new ReentrantLock();
+  private volatile boolean closed;
+  private ByteBuffer buf;
+
+  public ChannelOutputStream(WritableByteChannel channel) {
+    this.channel = channel;
+    this.buf = DirectBufferPool.acquire(DirectBufferPool.BUFFER_SIZE);
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    lock.lock();
+    try {
+      if (closed) throw new ClosedChannelException();
+      if (!buf.hasRemaining()) writeBuffer();
+      buf.put((byte) b);
+    } finally {
+      unlock();
+    }
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    lock.lock();
+    try {
+      if (closed) throw new ClosedChannelException();
+      while (len > 0) {
+        if (!buf.hasRemaining()) writeBuffer();
+        int copyLength = Math.min(len, buf.remaining());
+        buf.put(b, off, copyLength);
+        off += copyLength;
+        len -= copyLength;
+      }
+    } finally {
+      unlock();
+    }
+  }
+
+  private void writeBuffer() throws IOException {
+    buf.flip();
+    try {
+      while (buf.hasRemaining()) {
+        channel.write(buf);
+      }
+    } finally {
+      buf.clear();
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    lock.lock();
+    try {
+      if (closed) throw new ClosedChannelException();
+      if (buf.position() > 0) writeBuffer();
+    } finally {
+      unlock();
+    }
+  }
+
+  private void unlock() {
+    // stream closed while writing: buffer is given back only now it is not used anymore
+    if (closed) release();
+    lock.unlock();
+  }
+
+  /**
+   * Give back buffer to pool without closing channel. Used when another layer (TLS) takes the
+   * channel over.
+   */
+  public void release() {
+    ByteBuffer released = buf;
+    buf = ByteBuffer.allocate(0);
+    DirectBufferPool.release(released);
+  }
+
+  /**
+   * Close channel. If a write is pending in another thread, buffer will be given back by this
+   * thread, once channel closing has ended write.
+   *
+   * @throws IOException if any error occurs closing channel
+   */
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    try {
+      channel.close();
+    } finally {
+      if (lock.tryLock()) {
+        try {
+          release();
+        } finally {
+          lock.unlock();
+        }
+      }
+    }
+  }
+}
@@ -12,14 +12,19 @@ import java.util.zip.Inflater;
 import org.mariadb.jdbc.util.MutableInt;
 
 public class CompressInputStream extends InputStream {
+  // buffers bigger than that are not kept between packets
+  private static final int MAX_REUSABLE_BUFFER_SIZE = 1024 * 1024;
+
   private final InputStream in;
   private final MutableInt sequence;
+  private final Inflater inflater = new Inflater();
 
   private final byte[] header = new byte[7];
 
   private int end;
   private int pos;
-  private byte[] buf;
+  private byte[] buf = new byte[0];
+  private byte[] compressedBuf = new byte[0];
 
   public CompressInputStream(InputStream in, MutableInt compressionSequence) {
     this.in = in;
@@ -120,11 +125,19 @@ public class CompressInputStream extends InputStream {
     int packetLength = (header[4] & 0xff) + ((header[5] & 0xff) << 8) + ((header[6] & 0xff) << 16);
     boolean compressed = (packetLength != 0);
     remaining = compressedPacketLength;
-    byte[] intermediaryBuf = new byte[remaining];
 
     // ***************************************************
     // Read content
     // ***************************************************
+    // compressed content is read in a dedicated buffer, uncompressed content directly in buf
+    byte[] intermediaryBuf;
+    if (compressed) {
+      compressedBuf = reusableBuffer(compressedBuf, remaining);
+      intermediaryBuf = compressedBuf;
+    } else {
+      buf = reusableBuffer(buf, remaining);
+      intermediaryBuf = buf;
+    }
 
     readOffset = 0;
     do {
@@ -142,11 +155,11 @@ public class CompressInputStream extends InputStream {
     } while (remaining > 0);
 
     if (compressed) {
-      buf = new byte[packetLength];
-      Inflater inflater = new Inflater();
-      inflater.setInput(intermediaryBuf);
+      buf = reusableBuffer(buf, packetLength);
+      inflater.reset();
+      inflater.setInput(intermediaryBuf, 0, compressedPacketLength);
       try {
-        int actualUncompressBytes = inflater.inflate(buf);
+        int actualUncompressBytes = inflater.inflate(buf, 0, packetLength);
         if (actualUncompressBytes != packetLength) {
           throw new IOException(
               "Invalid exception length after decompression "
@@ -157,15 +170,25 @@ public class CompressInputStream extends InputStream {
       } catch (DataFormatException dfe) {
         throw new IOException(dfe);
       }
-      inflater.end();
       end = packetLength;
     } else {
-      buf = intermediaryBuf;
       end = compressedPacketLength;
     }
     pos = 0;
   }
 
+  /**
+   * Return current buffer if big enough, or a new one. Big buffers are not kept.
+   *
+   * @param current current buffer
+   * @param length required length
+   * @return buffer with at least required length
+   */
+  private static byte[] reusableBuffer(byte[] current, int length) {
+    if (current.length >= length && current.length <= MAX_REUSABLE_BUFFER_SIZE) return current;
+    return new byte[length];
+  }
+
   /**
    * Skips over and discards <code>n</code> bytes of data from this input stream. The <code>skip
    * </code> method may, for a variety of reasons, end up skipping over some smaller number of
@@ -224,7 +247,11 @@ public class CompressInputStream extends InputStream {
    */
   @Override
   public void close() throws IOException {
-    in.close();
+    try {
+      in.close();
+    } finally {
+      inflater.end();
+    }
   }
 
   /**
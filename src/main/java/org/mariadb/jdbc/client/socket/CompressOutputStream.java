@@ -4,10 +4,9 @@
 
 package org.mariadb.jdbc.client.socket;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Deflater;
 import org.mariadb.jdbc.util.MutableInt;
 import org.mariadb.jdbc.util.log.Logger;
 import org.mariadb.jdbc.util.log.Loggers;
@@ -17,6 +16,12 @@ public class CompressOutputStream extends OutputStream {
 
   private static final int MIN_COMPRESSION_SIZE = 1536; // TCP-IP single packet
 
+  // for big packets, a sample is compressed first: if compression ratio of this sample is poor
+  // (like for already compressed BLOB), packet is sent without compression
+  private static final int SAMPLE_THRESHOLD = 64 * 1024;
+  private static final int SAMPLE_SIZE = 4096;
+  private static final int POOR_RATIO_PERCENT = 90;
+
   private static final int SMALL_BUFFER_SIZE = 8192;
   private static final int MEDIUM_BUFFER_SIZE = 128 * 1024;
   private static final int LARGE_BUFFER_SIZE = 1024 * 1024;
@@ -24,12 +29,23 @@ public class CompressOutputStream extends OutputStream {
   private int maxPacketLength = MAX_PACKET_LENGTH;
   private final OutputStream out;
   private final MutableInt sequence;
+  private final Deflater deflater;
   private byte[] buf = new byte[SMALL_BUFFER_SIZE];
+  private byte[] compressedBuf = new byte[SMALL_BUFFER_SIZE];
   private int pos = 7;
 
-  public CompressOutputStream(OutputStream out, MutableInt compressionSequence) {
+  /**
+   * Constructor.
+   *
+   * @param out socket output stream
+   * @param compressionSequence compression sequence
+   * @param compressionLevel compression level (1-9)
+   */
+  public CompressOutputStream(
+      OutputStream out, MutableInt compressionSequence, int compressionLevel) {
     this.out = out;
     this.sequence = compressionSequence;
+    this.deflater = new Deflater(compressionLevel);
   }
 
   public void setMaxAllowedPacket(int maxAllowedPacket) {
@@ -119,14 +135,17 @@ public class CompressOutputStream extends OutputStream {
 
   private void writeSocket(boolean end) throws IOException {
     if (pos > 7) {
-      if (pos < MIN_COMPRESSION_SIZE) {
+      int len = pos - 7;
+      int compressLen =
+          (len < MIN_COMPRESSION_SIZE || !compressible(len)) ? len : deflate(buf, 7, len);
+
+      if (compressLen >= len) {
         // *******************************************************************************
-        // small packet, no compression
+        // small or not compressible packet, no compression
         // *******************************************************************************
-
-        buf[0] = (byte) (pos - 7);
-        buf[1] = (byte) ((pos - 7) >>> 8);
-        buf[2] = 0;
+        buf[0] = (byte) len;
+        buf[1] = (byte) (len >>> 8);
+        buf[2] = (byte) (len >>> 16);
         buf[3] = sequence.incrementAndGet();
         buf[4] = 0;
         buf[5] = 0;
@@ -137,30 +156,17 @@ public class CompressOutputStream extends OutputStream {
       } else {
 
         // *******************************************************************************
-        // compressing packet
+        // compressed packet. Compressed data has been written after header place
         // *******************************************************************************
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-          try (DeflaterOutputStream deflater = new DeflaterOutputStream(baos)) {
-            deflater.write(buf, 7, pos - 7);
-            deflater.finish();
-          }
-
-          byte[] compressedBytes = baos.toByteArray();
-
-          int compressLen = compressedBytes.length;
-
-          byte[] header = new byte[7];
-          header[0] = (byte) compressLen;
-          header[1] = (byte) (compressLen >>> 8);
-          header[2] = (byte) (compressLen >>> 16);
-          header[3] = sequence.incrementAndGet();
-          header[4] = (byte) (pos - 7);
-          header[5] = (byte) ((pos - 7) >>> 8);
-          header[6] = (byte) ((pos - 7) >>> 16);
-
-          out.write(header, 0, 7);
-          out.write(compressedBytes, 0, compressLen);
-        }
+        compressedBuf[0] = (byte) compressLen;
+        compressedBuf[1] = (byte) (compressLen >>> 8);
+        compressedBuf[2] = (byte) (compressLen >>> 16);
+        compressedBuf[3] = sequence.incrementAndGet();
+        compressedBuf[4] = (byte) len;
+        compressedBuf[5] = (byte) (len >>> 8);
+        compressedBuf[6] = (byte) (len >>> 16);
+
+        out.write(compressedBuf, 0, compressLen + 7);
       }
 
       if (end) {
@@ -169,11 +175,51 @@ public class CompressOutputStream extends OutputStream {
         if (buf.length > SMALL_BUFFER_SIZE && pos * 2 < buf.length) {
           buf = new byte[SMALL_BUFFER_SIZE];
         }
+        if (compressedBuf.length > SMALL_BUFFER_SIZE && pos * 2 < compressedBuf.length) {
+          compressedBuf = new byte[SMALL_BUFFER_SIZE];
+        }
       }
       pos = 7;
     }
   }
 
+  /**
+   * For big packets, compress a sample taken in the middle of data, to avoid compressing data that
+   * won't benefit from it.
+   *
+   * @param len data length
+   * @return true if compression ratio of sample is good enough
+   */
+  private boolean compressible(int len) {
+    if (len < SAMPLE_THRESHOLD) return true;
+    int sampleCompressLen = deflate(buf, 7 + (len - SAMPLE_SIZE) / 2, SAMPLE_SIZE);
+    return sampleCompressLen * 100 < SAMPLE_SIZE * POOR_RATIO_PERCENT;
+  }
+
+  /**
+   * Compress data to compressedBuf, after 7 bytes header place. Compression stops when compressed
+   * data is not smaller than original data.
+   *
+   * @param src source array
+   * @param off data offset
+   * @param len data length
+   * @return compressed length, or len if compressed data is not smaller
+   */
+  private int deflate(byte[] src, int off, int len) {
+    if (compressedBuf.length < len + 7) {
+      compressedBuf = new byte[buf.length];
+    }
+    deflater.reset();
+    deflater.setInput(src, off, len);
+    deflater.finish();
+    int compressLen = 0;
+    while (!deflater.finished()) {
+      if (compressLen >= len) return len;
+      compressLen += deflater.deflate(compressedBuf, 7 + compressLen, len - compressLen);
+    }
+    return compressLen;
+  }
+
   /**
    * Flushes this output stream and forces any buffered output bytes to be written out. The general
    * contract of <code>flush</code> is that calling it is an indication that, if any bytes
@@ -207,7 +253,11 @@ public class CompressOutputStream extends OutputStream {
    */
   @Override
   public void close() throws IOException {
-    out.close();
+    try {
+      out.close();
+    } finally {
+      deflater.end();
+    }
   }
 
   /**
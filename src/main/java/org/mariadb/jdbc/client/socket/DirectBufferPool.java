@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.client.socket;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * JVM-wide pool of direct buffers used by NIO transport. Direct buffers are expensive to allocate
+ * and are only released by GC, so connections borrow them on creation and give them back on close.
+ */
+public final class DirectBufferPool {
+
+  public static final int BUFFER_SIZE = 32768;
+  private static final int MAX_POOLED_BUFFERS = 256;
+  private static final ArrayBlockingQueue<ByteBuffer> pool =
+      new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+
+  private DirectBufferPool() {}
+
+  /**
+   * Borrow a direct buffer of at least required capacity. Buffer is cleared.
+   *
+   * @param capacity minimum required capacity
+   * @return direct buffer
+   */
+  public static ByteBuffer acquire(int capacity) {
+    if (capacity <= BUFFER_SIZE) {
+      ByteBuffer buf = pool.poll();
+      if (buf != null) {
+        buf.clear();
+        return buf;
+      }
+      return ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+    // not a standard size, won't be pooled
+    return ByteBuffer.allocateDirect(capacity);
+  }
+
+  /**
+   * Give back a buffer to pool. Non standard buffers are just dropped.
+   *
+   * @param buf buffer to release
+   */
+  public static void release(ByteBuffer buf) {
+    if (buf != null && buf.isDirect() && buf.capacity() == BUFFER_SIZE) {
+      pool.offer(buf);
+    }
+  }
+
+  /**
+   * Current pooled buffer number.
+   *
+   * @return pooled buffer number
+   */
+  public static int pooled() {
+    return pool.size();
+  }
+}
@@ -0,0 +1,171 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.client.socket;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Non-blocking {@link SocketChannel} exposed as a blocking {@link ByteChannel}. Waiting is done
+ * through a per-connection selector, permitting socket timeout, thread interruption and
+ * asynchronous close while a read is pending.
+ */
+public class NioChannel implements ByteChannel {
+
+  private final SocketChannel channel;
+  private final Selector selector;
+  private final SelectionKey key;
+  private volatile int timeout;
+
+  /**
+   * Constructor.
+   *
+   * @param channel socket channel (connected or not)
+   * @throws IOException if channel cannot be set non-blocking
+   */
+  public NioChannel(SocketChannel channel) throws IOException {
+    this.channel = channel;
+    this.channel.configureBlocking(false);
+    this.selector = Selector.open();
+    this.key = channel.register(selector, 0);
+  }
+
+  /**
+   * Connect channel to address.
+   *
+   * @param address socket address
+   * @param connectTimeout connect timeout in milliseconds. 0 means no timeout.
+   * @throws IOException if connection fails or timeout is reached
+   */
+  public void connect(SocketAddress address, int connectTimeout) throws IOException {
+    if (channel.connect(address)) return;
+    key.interestOps(SelectionKey.OP_CONNECT);
+    long deadline = deadline(connectTimeout);
+    try {
+      while (!channel.finishConnect()) {
+        await(deadline, "Connect timed out");
+      }
+    } finally {
+      key.interestOps(0);
+    }
+  }
+
+  /**
+   * Set read/write timeout.
+   *
+   * @param timeout timeout in milliseconds. 0 means no timeout.
+   */
+  public void setTimeout(int timeout) {
+    this.timeout = timeout;
+  }
+
+  public SocketChannel getChannel() {
+    return channel;
+  }
+
+  /**
+   * Read data to buffer, blocking until at least one byte is available.
+   *
+   * @param dst destination buffer
+   * @return number of read bytes, -1 if end of stream
+   * @throws IOException if any socket error, timeout or interruption occurs
+   */
+  @Override
+  public int read(ByteBuffer dst) throws IOException {
+    int count = channel.read(dst);
+    if (count != 0 || !dst.hasRemaining()) return count;
+
+    key.interestOps(SelectionKey.OP_READ);
+    long deadline = deadline(timeout);
+    try {
+      while (true) {
+        await(deadline, "Read timed out");
+        count = channel.read(dst);
+        if (count != 0) return count;
+      }
+    } finally {
+      if (key.isValid()) key.interestOps(0);
+    }
+  }
+
+  /**
+   * Write all buffer data to socket.
+   *
+   * @param src buffer
+   * @return number of written bytes
+   * @throws IOException if any socket error, timeout or interruption occurs
+   */
+  @Override
+  public int write(ByteBuffer src) throws IOException {
+    int initialRemaining = src.remaining();
+    channel.write(src);
+    if (src.hasRemaining()) {
+      key.interestOps(SelectionKey.OP_WRITE);
+      long deadline = deadline(timeout);
+      try {
+        while (src.hasRemaining()) {
+          await(deadline, "Write timed out");
+          channel.write(src);
+        }
+      } finally {
+        if (key.isValid()) key.interestOps(0);
+      }
+    }
+    return initialRemaining;
+  }
+
+  private static long deadline(int timeout) {
+    return timeout > 0 ? System.nanoTime() + timeout * 1_000_000L : 0L;
+  }
+
+  private void await(long deadline, String timeoutMessage) throws IOException {
+    long waitMillis = 0;
+    if (deadline > 0) {
+      long remainingNanos = deadline - System.nanoTime();
+      if (remainingNanos <= 0) throw new SocketTimeoutException(timeoutMessage);
+      waitMillis = Math.max(1L, remainingNanos / 1_000_000L);
+    }
+    try {
+      selector.select(waitMillis);
+      selector.selectedKeys().clear();
+    } catch (ClosedSelectorException e) {
+      throw new ClosedChannelException();
+    }
+    if (Thread.interrupted()) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Socket operation interrupted");
+    }
+    if (!channel.isOpen()) throw new ClosedChannelException();
+  }
+
+  public void shutdownOutput() throws IOException {
+    channel.shutdownOutput();
+  }
+
+  @Override
+  public boolean isOpen() {
+    return channel.isOpen();
+  }
+
+  @Override
+  public void close() throws IOException {
+    // wake up any pending operation
+    selector.wakeup();
+    try {
+      channel.close();
+    } finally {
+      selector.close();
+    }
+  }
+}
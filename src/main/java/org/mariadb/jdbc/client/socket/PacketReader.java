@@ -7,6 +7,8 @@ package org.mariadb.jdbc.client.socket;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import org.mariadb.jdbc.Configuration;
 import org.mariadb.jdbc.HostAddress;
 import org.mariadb.jdbc.client.ReadableByteBuf;
@@ -17,18 +19,27 @@ import org.mariadb.jdbc.util.log.Loggers;
 
 public class PacketReader {
 
-  private static final int REUSABLE_BUFFER_LENGTH = 1024;
+  private static final int RECEIVE_BUFFER_LENGTH = 16384;
   private static final int MAX_PACKET_SIZE = 0xffffff;
+  private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
   private static final Logger logger = Loggers.getLogger(PacketReader.class);
 
   private final byte[] header = new byte[4];
-  private final byte[] reusableArray = new byte[REUSABLE_BUFFER_LENGTH];
   private final InputStream inputStream;
   private final int maxQuerySizeToLog;
 
   private final MutableInt sequence;
+  private final ReadableByteBuf view;
   private String serverThreadLog = "";
 
+  // receive buffer: data from recvPos to recvLimit are not yet read
+  private byte[] recvBuf = new byte[RECEIVE_BUFFER_LENGTH];
+  private int recvPos;
+  private int recvLimit;
+
+  // indicate that some views returned by readPacketView still use receive buffer
+  private boolean viewIssued;
+
   /**
    * Constructor of standard socket MySQL packet stream reader.
    *
@@ -40,6 +51,7 @@ public class PacketReader {
     this.inputStream = in;
     this.maxQuerySizeToLog = conf.maxQuerySizeToLog();
     this.sequence = sequence;
+    this.view = new ReadableByteBuf(sequence, null, 0);
   }
 
   /**
@@ -58,59 +70,98 @@ public class PacketReader {
    * Get next MySQL packet. If packet is more than 16M, read as many packet needed to finish reading
    * MySQL packet. (first that has not length = 16Mb)
    *
+   * <p>Reusable packets are returned directly from the receive buffer, without any copy: content is
+   * only valid until next read.
+   *
    * @param reUsable if can use existing reusable buf to avoid creating array
    * @param traceEnable must trace packet.
    * @return array packet.
    * @throws IOException if socket exception occur.
    */
   public ReadableByteBuf readPacket(boolean reUsable, boolean traceEnable) throws IOException {
-    // ***************************************************
-    // Read 4 byte header
-    // ***************************************************
-    int remaining = 4;
-    int off = 0;
-    do {
-      int count = inputStream.read(header, off, remaining);
-      if (count < 0) {
-        throw new EOFException(
-            "unexpected end of stream, read "
-                + off
-                + " bytes from 4 (socket was closed by server)");
-      }
-      remaining -= count;
-      off += count;
-    } while (remaining > 0);
-
-    int lastPacketLength =
-        (header[0] & 0xff) + ((header[1] & 0xff) << 8) + ((header[2] & 0xff) << 16);
-    sequence.set(header[3]);
-
-    // prepare array
-    byte[] rawBytes;
-    if (reUsable && lastPacketLength < REUSABLE_BUFFER_LENGTH) {
-      rawBytes = reusableArray;
-    } else {
-      rawBytes = new byte[lastPacketLength];
+    int lastPacketLength = readHeader();
+    if (reUsable && lastPacketLength + 4 <= recvBuf.length) {
+      int start = readContent(lastPacketLength, traceEnable);
+      return new ReadableByteBuf(sequence, recvBuf, start, start + lastPacketLength);
     }
+    byte[] rawBytes = readLargePacket(lastPacketLength, traceEnable);
+    return new ReadableByteBuf(sequence, rawBytes, rawBytes.length);
+  }
 
-    // ***************************************************
-    // Read content
-    // ***************************************************
-    remaining = lastPacketLength;
-    off = 0;
-    do {
-      int count = inputStream.read(rawBytes, off, remaining);
-      if (count < 0) {
-        throw new EOFException(
-            "unexpected end of stream, read "
-                + (lastPacketLength - remaining)
-                + " bytes from "
-                + lastPacketLength
-                + " (socket was closed by server)");
-      }
-      remaining -= count;
-      off += count;
-    } while (remaining > 0);
+  /**
+   * Get next MySQL packet as a view in receive buffer, avoiding any allocation.
+   *
+   * <p>Contrary to reusable packets, view content stays valid after next reads: once a view has
+   * been issued, receive buffer is given up to views when full rather than compacted. Returned
+   * {@link ReadableByteBuf} object is reused, so caller must get buffer, position and limit before
+   * reading next packet.
+   *
+   * @param traceEnable must trace packet.
+   * @return packet view
+   * @throws IOException if socket exception occur.
+   */
+  public ReadableByteBuf readPacketView(boolean traceEnable) throws IOException {
+    int lastPacketLength = readHeader();
+    if (lastPacketLength + 4 <= recvBuf.length) {
+      int start = readContent(lastPacketLength, traceEnable);
+      viewIssued = true;
+      return view.buf(recvBuf, start + lastPacketLength).pos(start);
+    }
+    byte[] rawBytes = readLargePacket(lastPacketLength, traceEnable);
+    return view.buf(rawBytes, rawBytes.length).pos(0);
+  }
+
+  /**
+   * Read 4 byte header, setting sequence.
+   *
+   * @return packet length
+   * @throws IOException if socket exception occur.
+   */
+  private int readHeader() throws IOException {
+    fill(4);
+    int packetLength =
+        (recvBuf[recvPos] & 0xff)
+            + ((recvBuf[recvPos + 1] & 0xff) << 8)
+            + ((recvBuf[recvPos + 2] & 0xff) << 16);
+    sequence.set(recvBuf[recvPos + 3]);
+    System.arraycopy(recvBuf, recvPos, header, 0, 4);
+    recvPos += 4;
+    return packetLength;
+  }
+
+  /**
+   * Ensure packet content is in receive buffer.
+   *
+   * @param packetLength packet length
+   * @param traceEnable must trace packet.
+   * @return packet content position in receive buffer
+   * @throws IOException if socket exception occur.
+   */
+  private int readContent(int packetLength, boolean traceEnable) throws IOException {
+    fill(packetLength);
+    int start = recvPos;
+    recvPos += packetLength;
+    if (traceEnable) {
+      logger.trace(
+          "read: {}\n{}",
+          serverThreadLog,
+          LoggerHelper.hex(header, recvBuf, start, packetLength, maxQuerySizeToLog));
+    }
+    return start;
+  }
+
+  /**
+   * Read packet content to a new array. In case content length is big, content will be separate in
+   * many 16Mb packets.
+   *
+   * @param lastPacketLength first packet length
+   * @param traceEnable must trace packet.
+   * @return packet content
+   * @throws IOException if socket exception occur.
+   */
+  private byte[] readLargePacket(int lastPacketLength, boolean traceEnable) throws IOException {
+    byte[] rawBytes = new byte[lastPacketLength];
+    readFully(rawBytes, 0, lastPacketLength);
 
     if (traceEnable) {
       logger.trace(
@@ -119,62 +170,112 @@ public class PacketReader {
           LoggerHelper.hex(header, rawBytes, 0, lastPacketLength, maxQuerySizeToLog));
     }
 
-    // ***************************************************
-    // In case content length is big, content will be separate in many 16Mb packets
-    // ***************************************************
     if (lastPacketLength == MAX_PACKET_SIZE) {
+      // each 16M packet is read in its own chunk. Content is assembled only once all packets are
+      // read, copying each byte once, not accumulated array at each new packet. This saves copy
+      // time only: chunks and assembled array are both referenced during assembly, so peak memory
+      // stays about twice the payload size.
+      List<byte[]> chunks = new ArrayList<>();
+      chunks.add(rawBytes);
+      long totalLength = lastPacketLength;
       int packetLength;
       do {
-        remaining = 4;
-        off = 0;
-        do {
-          int count = inputStream.read(header, off, remaining);
-          if (count < 0) {
-            throw new EOFException("unexpected end of stream, read " + off + " bytes from 4");
-          }
-          remaining -= count;
-          off += count;
-        } while (remaining > 0);
-
-        packetLength = (header[0] & 0xff) + ((header[1] & 0xff) << 8) + ((header[2] & 0xff) << 16);
-        sequence.set(header[3]);
-
-        int currentbufLength = rawBytes.length;
-        byte[] newRawBytes = new byte[currentbufLength + packetLength];
-        System.arraycopy(rawBytes, 0, newRawBytes, 0, currentbufLength);
-        rawBytes = newRawBytes;
-
-        // ***************************************************
-        // Read content
-        // ***************************************************
-        remaining = packetLength;
-        off = currentbufLength;
-        do {
-          int count = inputStream.read(rawBytes, off, remaining);
-          if (count < 0) {
-            throw new EOFException(
-                "unexpected end of stream, read "
-                    + (packetLength - remaining)
-                    + " bytes from "
-                    + packetLength);
-          }
-          remaining -= count;
-          off += count;
-        } while (remaining > 0);
+        packetLength = readHeader();
+        if (totalLength + packetLength > MAX_ARRAY_SIZE) {
+          throw new IOException(
+              String.format(
+                  "Packet of at least %s bytes exceed maximum java array size (%s)",
+                  totalLength + packetLength, MAX_ARRAY_SIZE));
+        }
+        byte[] chunk = new byte[packetLength];
+        readFully(chunk, 0, packetLength);
 
         if (traceEnable) {
           logger.trace(
               "read: {}\n{}",
               serverThreadLog,
-              LoggerHelper.hex(
-                  header, rawBytes, currentbufLength, packetLength, maxQuerySizeToLog));
+              LoggerHelper.hex(header, chunk, 0, packetLength, maxQuerySizeToLog));
         }
-
-        lastPacketLength += packetLength;
+        chunks.add(chunk);
+        totalLength += packetLength;
       } while (packetLength == MAX_PACKET_SIZE);
+
+      rawBytes = new byte[(int) totalLength];
+      int pos = 0;
+      for (int i = 0; i < chunks.size(); i++) {
+        byte[] chunk = chunks.get(i);
+        System.arraycopy(chunk, 0, rawBytes, pos, chunk.length);
+        pos += chunk.length;
+        chunks.set(i, null); // permit GC of chunk
+      }
+    }
+    return rawBytes;
+  }
+
+  /**
+   * Ensure receive buffer contains at least required bytes, reading socket as needed. If there is
+   * not enough place at the end of receive buffer, unread data are moved to the beginning, possibly
+   * in a new array if some views still use current one.
+   *
+   * @param required required number of bytes (must not exceed buffer length)
+   * @throws IOException if socket exception occur.
+   */
+  private void fill(int required) throws IOException {
+    if (recvLimit - recvPos >= required) return;
+    if (recvPos + required > recvBuf.length) {
+      int unread = recvLimit - recvPos;
+      if (viewIssued) {
+        byte[] newBuf = new byte[recvBuf.length];
+        System.arraycopy(recvBuf, recvPos, newBuf, 0, unread);
+        recvBuf = newBuf;
+        viewIssued = false;
+      } else {
+        System.arraycopy(recvBuf, recvPos, recvBuf, 0, unread);
+      }
+      recvPos = 0;
+      recvLimit = unread;
     }
+    do {
+      int count = inputStream.read(recvBuf, recvLimit, recvBuf.length - recvLimit);
+      if (count < 0) {
+        throw new EOFException(
+            "unexpected end of stream, read "
+                + (recvLimit - recvPos)
+                + " bytes from "
+                + required
+                + " (socket was closed by server)");
+      }
+      recvLimit += count;
+    } while (recvLimit - recvPos < required);
+  }
 
-    return new ReadableByteBuf(sequence, rawBytes, lastPacketLength);
+  /**
+   * Read bytes to array, first from receive buffer then directly from socket.
+   *
+   * @param dst destination array
+   * @param off destination offset
+   * @param len number of bytes to read
+   * @throws IOException if socket exception occur.
+   */
+  private void readFully(byte[] dst, int off, int len) throws IOException {
+    int buffered = Math.min(len, recvLimit - recvPos);
+    System.arraycopy(recvBuf, recvPos, dst, off, buffered);
+    recvPos += buffered;
+    int remaining = len - buffered;
+    off += buffered;
+    while (remaining > 0) {
+      int count = inputStream.read(dst, off, remaining);
+      if (count < 0) {
+        throw new EOFException(
+            "unexpected end of stream, read "
+                + (len - remaining)
+                + " bytes from "
+                + len
+                + " (socket was closed by server)");
+      }
+      remaining -= count;
+      off += count;
+    }
   }
 
   public MutableInt getSequence() {
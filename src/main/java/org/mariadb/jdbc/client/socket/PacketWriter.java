@@ -5,6 +5,7 @@
 package org.mariadb.jdbc.client.socket;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -188,6 +189,22 @@ public class PacketWriter {
    */
   public void writeBytes(byte[] arr, int off, int len) throws IOException {
     if (len > buf.length - pos) {
+      if (canWriteDirect() && len > maxPacketLength - pos) {
+        // data fill at least one complete packet: send those directly from array, without
+        // growing buf. The remaining part is buffered, since only a last packet can be partial.
+        do {
+          int packetDataLength = maxPacketLength - pos;
+          writeSocketDirect(arr, off, packetDataLength);
+          off += packetDataLength;
+          len -= packetDataLength;
+        } while (len > maxPacketLength - pos);
+        if (len <= buf.length - pos) {
+          System.arraycopy(arr, off, buf, pos, len);
+          pos += len;
+          return;
+        }
+      }
+
       if (buf.length != maxPacketLength) {
         growBuffer(len);
       }
@@ -227,6 +244,105 @@ public class PacketWriter {
     pos += len;
   }
 
+  /**
+   * Write byte array that ends current command, then flush. Array is not copied to buf: packet
+   * header and already buffered data are sent, followed by array content.
+   *
+   * @param arr byte array
+   * @param off offset
+   * @param len byte length to write
+   * @throws IOException if socket error occur
+   */
+  public void writeBytesAndFlush(byte[] arr, int off, int len) throws IOException {
+    if (!canWriteDirect() || len <= buf.length - pos) {
+      writeBytes(arr, off, len);
+      flush();
+      return;
+    }
+
+    while (len > maxPacketLength - pos) {
+      int packetDataLength = maxPacketLength - pos;
+      writeSocketDirect(arr, off, packetDataLength);
+      off += packetDataLength;
+      len -= packetDataLength;
+    }
+    boolean fullPacket = pos + len == maxPacketLength;
+    writeSocketDirect(arr, off, len);
+    // if last packet fill the max size, must send an empty packet to indicate command end.
+    if (fullPacket) writeEmptyPacket();
+    flush();
+  }
+
+  /**
+   * Write stream content, reading it directly into buf. If buf is full, flush socket.
+   *
+   * @param is input stream
+   * @param maxLength maximum length to read, null meaning up to the end of stream
+   * @throws IOException if socket or stream error occur
+   */
+  public void writeStream(InputStream is, Long maxLength) throws IOException {
+    long remainingLen = maxLength == null ? Long.MAX_VALUE : maxLength;
+    if (!canWriteDirect()) {
+      byte[] array = new byte[4096];
+      int len;
+      while (remainingLen > 0
+          && (len = is.read(array, 0, (int) Math.min(array.length, remainingLen))) > 0) {
+        writeBytes(array, 0, len);
+        remainingLen -= len;
+      }
+      return;
+    }
+
+    while (remainingLen > 0) {
+      if (pos >= Math.min(buf.length, maxPacketLength)) {
+        if (buf.length < maxPacketLength) {
+          growBuffer(buf.length);
+        } else {
+          // full packet can only be sent if followed by data
+          int b = is.read();
+          if (b < 0) return;
+          writeSocket(false);
+          buf[pos++] = (byte) b;
+          if (--remainingLen == 0) return;
+        }
+      }
+      int limit = Math.min(buf.length, maxPacketLength);
+      int len = is.read(buf, pos, (int) Math.min(limit - pos, remainingLen));
+      if (len <= 0) return;
+      pos += len;
+      remainingLen -= len;
+    }
+  }
+
+  /**
+   * Send LOAD DATA LOCAL INFILE content, followed by the ending empty packet. Data is read directly
+   * into buf, and a packet is sent each time buf is full, buf growing up to 1M.
+   *
+   * @param is file content
+   * @throws IOException if socket or stream error occur
+   */
+  public void writeLocalInfile(InputStream is) throws IOException {
+    int limit;
+    int len;
+    do {
+      limit = Math.min(buf.length, maxPacketLength);
+      if (pos >= limit) {
+        if (buf.length < LARGE_BUFFER_SIZE && buf.length < maxPacketLength) {
+          growBuffer(buf.length);
+          limit = Math.min(buf.length, maxPacketLength);
+        } else {
+          writeSocket(false);
+          // each file packet is checked against max_allowed_packet individually
+          cmdLength = 0;
+        }
+      }
+      len = is.read(buf, pos, limit - pos);
+      if (len > 0) pos += len;
+    } while (len >= 0);
+    writeSocket(false);
+    writeEmptyPacket();
+  }
+
   /**
    * Write field length into buf, flush socket if needed.
    *
@@ -697,6 +813,10 @@ public class PacketWriter {
     }
   }
 
+  public int getMaxAllowedPacket() {
+    return maxAllowedPacket;
+  }
+
   public void permitTrace(boolean permitTrace) {
     this.permitTrace = permitTrace;
   }
@@ -808,6 +928,49 @@ public class PacketWriter {
     }
   }
 
+  /**
+   * Indicate if data can be sent without being kept in buf. Buffered data must be kept when a mark
+   * is set.
+   *
+   * @return true if data can be sent directly
+   */
+  private boolean canWriteDirect() {
+    return mark == -1 && !bufContainDataAfterMark && pos < maxPacketLength;
+  }
+
+  /**
+   * Send a packet made of buffered data followed by array part, without copying array to buf.
+   *
+   * @param arr byte array
+   * @param off offset
+   * @param len byte length to send
+   * @throws IOException if socket error occur.
+   */
+  private void writeSocketDirect(byte[] arr, int off, int len) throws IOException {
+    int packetLength = pos - 4 + len;
+    buf[0] = (byte) packetLength;
+    buf[1] = (byte) (packetLength >>> 8);
+    buf[2] = (byte) (packetLength >>> 16);
+    buf[3] = this.sequence.incrementAndGet();
+    checkMaxAllowedLength(packetLength);
+    out.write(buf, 0, pos);
+    out.write(arr, off, len);
+    cmdLength += packetLength;
+
+    if (logger.isTraceEnabled()) {
+      if (permitTrace) {
+        logger.trace(
+            "send: {} ({} bytes sent from parameter)\n{}",
+            serverThreadLog,
+            len,
+            LoggerHelper.hex(buf, 0, pos, maxQuerySizeToLog));
+      } else {
+        logger.trace("send: content length={} {} com=<hidden>", packetLength, serverThreadLog);
+      }
+    }
+    pos = 4;
+  }
+
   public void close() throws IOException {
     out.close();
   }
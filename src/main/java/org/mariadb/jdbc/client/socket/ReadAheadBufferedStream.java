@@ -11,6 +11,11 @@ import java.io.InputStream;
 /**
  * Permit to buf socket data, reading not only asked bytes, but available number of bytes when
  * possible.
+ *
+ * <p>Stream has a single reader at a time, so methods are not synchronized: a monitor held during a
+ * blocking socket read would pin virtual thread carrier. Reader is the thread holding connection
+ * lock, or a streaming prefetch task (option `streamingPrefetch`), which reads without connection
+ * lock: any other read, and any command sending, first waits for that task to end.
  */
 public class ReadAheadBufferedStream extends FilterInputStream {
 
@@ -32,7 +37,7 @@ public class ReadAheadBufferedStream extends FilterInputStream {
    * @return byte value
    * @throws IOException if socket reading error.
    */
-  public synchronized int read() throws IOException {
+  public int read() throws IOException {
     if (pos >= end) {
       fillbuf(1);
       if (pos >= end) {
@@ -51,7 +56,7 @@ public class ReadAheadBufferedStream extends FilterInputStream {
    * @return number of added bytes
    * @throws IOException if exception during socket reading
    */
-  public synchronized int read(byte[] externalBuf, int off, int len) throws IOException {
+  public int read(byte[] externalBuf, int off, int len) throws IOException {
 
     if (len == 0) {
       return 0;
@@ -105,15 +110,15 @@ public class ReadAheadBufferedStream extends FilterInputStream {
     pos = 0;
   }
 
-  public synchronized long skip(long n) throws IOException {
+  public long skip(long n) throws IOException {
     throw new IOException("Skip from socket not implemented");
   }
 
-  public synchronized int available() throws IOException {
+  public int available() throws IOException {
     return end - pos + super.available();
   }
 
-  public synchronized void reset() throws IOException {
+  public void reset() throws IOException {
     throw new IOException("reset from socket not implemented");
   }
 
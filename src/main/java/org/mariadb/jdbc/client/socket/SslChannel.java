@@ -0,0 +1,280 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.client.socket;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLSession;
+
+/**
+ * TLS layer over a {@link NioChannel}, using an {@link SSLEngine}. Reads and writes are serialized.
+ * Channel can be closed by another thread (abort) while an operation is pending: buffers are then
+ * only given back to pool by that thread, once leaving operation.
+ */
+public class SslChannel implements ByteChannel {
+
+  private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+  private final NioChannel channel;
+  private final SSLEngine engine;
+  private ByteBuffer netIn;
+  private ByteBuffer netOut;
+  private ByteBuffer appIn;
+  private boolean closed;
+  private final ReentrantLock lock = new ReentrantLock();
+  private volatile boolean channelClosed;
+
+  /**
+   * Constructor.
+   *
+   * @param channel connected channel
+   * @param engine SSL engine in client mode
+   */
+  public SslChannel(NioChannel channel, SSLEngine engine) {
+    this.channel = channel;
+    this.engine = engine;
+    SSLSession session = engine.getSession();
+    this.netIn = DirectBufferPool.acquire(session.getPacketBufferSize());
+    this.netOut = DirectBufferPool.acquire(session.getPacketBufferSize());
+    this.appIn = DirectBufferPool.acquire(session.getApplicationBufferSize());
+    this.netIn.flip();
+    this.appIn.flip();
+  }
+
+  public SSLEngine getEngine() {
+    return engine;
+  }
+
+  /**
+   * Proceed to TLS handshake.
+   *
+   * @throws IOException if any socket error occurs or handshake fails
+   */
+  public void handshake() throws IOException {
+    lock.lock();
+    try {
+      if (channelClosed) throw new ClosedChannelException();
+      engine.beginHandshake();
+      while (true) {
+        switch (engine.getHandshakeStatus()) {
+          case NEED_WRAP:
+            wrap(EMPTY);
+            break;
+
+          case NEED_UNWRAP:
+            if (unwrap() < 0) throw new EOFException("connection closed during TLS handshake");
+            break;
+
+          case NEED_TASK:
+            runDelegatedTasks();
+            break;
+
+          default:
+            // FINISHED or NOT_HANDSHAKING
+            return;
+        }
+      }
+    } finally {
+      unlock();
+    }
+  }
+
+  private void runDelegatedTasks() {
+    Runnable task;
+    while ((task = engine.getDelegatedTask()) != null) {
+      task.run();
+    }
+  }
+
+  /**
+   * Encrypt source data and send it to socket.
+   *
+   * @param src data to encrypt
+   * @throws IOException if socket error occurs
+   */
+  private void wrap(ByteBuffer src) throws IOException {
+    do {
+      netOut.clear();
+      SSLEngineResult result = engine.wrap(src, netOut);
+      switch (result.getStatus()) {
+        case BUFFER_OVERFLOW:
+          netOut = grow(netOut, engine.getSession().getPacketBufferSize(), false);
+          continue;
+        case CLOSED:
+          if (result.bytesProduced() == 0) throw new SSLException("TLS engine is closed");
+          break;
+        default:
+          break;
+      }
+      netOut.flip();
+      while (netOut.hasRemaining()) {
+        channel.write(netOut);
+      }
+      if (result.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_TASK) {
+        runDelegatedTasks();
+      }
+    } while (src.hasRemaining());
+  }
+
+  /**
+   * Decrypt one TLS record to appIn buffer, reading socket if needed.
+   *
+   * @return number of decrypted bytes, -1 if end of stream
+   * @throws IOException if socket error occurs
+   */
+  private int unwrap() throws IOException {
+    while (true) {
+      appIn.compact();
+      SSLEngineResult result;
+      try {
+        result = engine.unwrap(netIn, appIn);
+      } finally {
+        appIn.flip();
+      }
+      switch (result.getStatus()) {
+        case BUFFER_UNDERFLOW:
+          if (netIn.capacity() < engine.getSession().getPacketBufferSize()) {
+            netIn = grow(netIn, engine.getSession().getPacketBufferSize(), true);
+          }
+          netIn.compact();
+          int read;
+          try {
+            read = channel.read(netIn);
+          } finally {
+            netIn.flip();
+          }
+          if (read < 0) return -1;
+          continue;
+
+        case BUFFER_OVERFLOW:
+          int appBufferSize = engine.getSession().getApplicationBufferSize();
+          appIn = grow(appIn, appIn.remaining() + appBufferSize, true);
+          continue;
+
+        case CLOSED:
+          closed = true;
+          return -1;
+
+        default:
+          if (result.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_TASK) {
+            runDelegatedTasks();
+          }
+          // post-handshake message (like TLSv1.3 session ticket) might need response
+          if (engine.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_WRAP) {
+            wrap(EMPTY);
+          }
+          return result.bytesProduced();
+      }
+    }
+  }
+
+  /**
+   * Replace buffer by a bigger one, keeping readable data if needed.
+   *
+   * @param buf current buffer (read mode if keepData)
+   * @param capacity minimum capacity
+   * @param keepData must keep current buffer data
+   * @return new buffer, in read mode if keepData
+   */
+  private static ByteBuffer grow(ByteBuffer buf, int capacity, boolean keepData) {
+    ByteBuffer newBuf = DirectBufferPool.acquire(Math.max(capacity, buf.capacity() * 2));
+    if (keepData) {
+      newBuf.put(buf);
+      newBuf.flip();
+    }
+    DirectBufferPool.release(buf);
+    return newBuf;
+  }
+
+  @Override
+  public int read(ByteBuffer dst) throws IOException {
+    lock.lock();
+    try {
+      if (channelClosed) throw new ClosedChannelException();
+      while (!appIn.hasRemaining()) {
+        if (closed || unwrap() < 0) return -1;
+      }
+      int len = Math.min(dst.remaining(), appIn.remaining());
+      int limit = appIn.limit();
+      appIn.limit(appIn.position() + len);
+      dst.put(appIn);
+      appIn.limit(limit);
+      return len;
+    } finally {
+      unlock();
+    }
+  }
+
+  @Override
+  public int write(ByteBuffer src) throws IOException {
+    lock.lock();
+    try {
+      if (channelClosed) throw new ClosedChannelException();
+      int len = src.remaining();
+      wrap(src);
+      return len;
+    } finally {
+      unlock();
+    }
+  }
+
+  private void unlock() {
+    // channel closed during operation: buffers are given back only now they are not used anymore
+    if (channelClosed) releaseBuffers();
+    lock.unlock();
+  }
+
+  private void releaseBuffers() {
+    DirectBufferPool.release(netIn);
+    DirectBufferPool.release(netOut);
+    DirectBufferPool.release(appIn);
+    netIn = netOut = appIn = null;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return channel.isOpen();
+  }
+
+  /**
+   * Close channel, sending TLS close_notify if no operation is pending. If an operation is pending
+   * in another thread, channel is just closed, and buffers will be given back by this thread.
+   *
+   * @throws IOException if any error occurs closing channel
+   */
+  @Override
+  public void close() throws IOException {
+    channelClosed = true;
+    if (!lock.tryLock()) {
+      channel.close();
+      return;
+    }
+    try {
+      if (!closed && netOut != null && channel.isOpen()) {
+        closed = true;
+        engine.closeOutbound();
+        try {
+          wrap(EMPTY);
+        } catch (IOException e) {
+          // eat
+        }
+      }
+    } finally {
+      try {
+        channel.close();
+      } finally {
+        releaseBuffers();
+        lock.unlock();
+      }
+    }
+  }
+}
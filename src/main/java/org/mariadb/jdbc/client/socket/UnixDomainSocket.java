@@ -176,7 +176,11 @@ public class UnixDomainSocket extends Socket {
     @Override
     public int read(byte[] bytesEntry, int off, int len) throws IOException {
       try {
-        return recv(fd, bytesEntry, len, 0);
+        if (off == 0) return recv(fd, bytesEntry, len, 0);
+        byte[] tmp = new byte[len];
+        int read = recv(fd, tmp, len, 0);
+        if (read > 0) System.arraycopy(tmp, 0, bytesEntry, off, read);
+        return read;
       } catch (LastErrorException lee) {
         throw new IOException("native read() failed : " + formatError(lee));
       }
@@ -204,7 +208,13 @@ public class UnixDomainSocket extends Socket {
     public void write(byte[] bytesEntry, int off, int len) throws IOException {
       int bytes;
       try {
-        bytes = send(fd, bytesEntry, len, 0);
+        if (off == 0) {
+          bytes = send(fd, bytesEntry, len, 0);
+        } else {
+          byte[] tmp = new byte[len];
+          System.arraycopy(bytesEntry, off, tmp, 0, len);
+          bytes = send(fd, tmp, len, 0);
+        }
 
         if (bytes != len) {
           throw new IOException("can't write " + len + "bytes");
@@ -15,8 +15,11 @@ import java.security.cert.Certificate;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.net.ssl.*;
 import org.mariadb.jdbc.Configuration;
 import org.mariadb.jdbc.SslMode;
@@ -28,6 +31,14 @@ import org.mariadb.jdbc.util.log.Loggers;
 public class DefaultTlsSocketPlugin implements TlsSocketPlugin {
   private static final Logger logger = Loggers.getLogger(DefaultTlsSocketPlugin.class);
 
+  /** Maximum number of cached SSL contexts. */
+  private static final int MAX_CACHED_CONTEXT = 64;
+
+  // SSL contexts shared when option `cacheSslContext` is set, keyed by TLS configuration.
+  // Each context has its own client session cache, permitting session resumption.
+  private static final ConcurrentHashMap<List<Object>, SSLContext> sslContexts =
+      new ConcurrentHashMap<>();
+
   private static KeyManager loadClientCerts(
       String keyStoreUrl,
       String keyStorePassword,
@@ -66,6 +77,52 @@ public class DefaultTlsSocketPlugin implements TlsSocketPlugin {
   @Override
   public SSLSocketFactory getSocketFactory(Configuration conf, ExceptionFactory exceptionFactory)
       throws SQLException {
+    return getSslContext(conf, exceptionFactory).getSocketFactory();
+  }
+
+  @Override
+  public SSLEngine createEngine(
+      Configuration conf, ExceptionFactory exceptionFactory, String host, int port)
+      throws SQLException {
+    SSLContext sslContext = getSslContext(conf, exceptionFactory);
+    return host == null ? sslContext.createSSLEngine() : sslContext.createSSLEngine(host, port);
+  }
+
+  private static SSLContext getSslContext(Configuration conf, ExceptionFactory exceptionFactory)
+      throws SQLException {
+    if (!conf.cacheSslContext()) return buildSslContext(conf, exceptionFactory);
+
+    List<Object> key =
+        Arrays.asList(
+            conf.sslMode() == SslMode.TRUST,
+            conf.serverSslCert(),
+            conf.keyStore(),
+            conf.keyStorePassword(),
+            conf.keyStoreType(),
+            System.getProperty("javax.net.ssl.keyStore"),
+            System.getProperty("javax.net.ssl.keyStorePassword"),
+            System.getProperty("javax.net.ssl.keyStoreType"),
+            System.getProperty("javax.net.ssl.trustStore"),
+            System.getProperty("javax.net.ssl.trustStorePassword"),
+            System.getProperty("javax.net.ssl.trustStoreType"),
+            System.getProperty("javax.net.ssl.trustStoreProvider"));
+    SSLContext sslContext = sslContexts.get(key);
+    if (sslContext == null) {
+      sslContext = buildSslContext(conf, exceptionFactory);
+      if (sslContexts.size() >= MAX_CACHED_CONTEXT) sslContexts.clear();
+      SSLContext previous = sslContexts.putIfAbsent(key, sslContext);
+      if (previous != null) sslContext = previous;
+    }
+    return sslContext;
+  }
+
+  /** Clear shared SSL contexts, forcing certificates and key stores reload. */
+  public static void clearSslContextCache() {
+    sslContexts.clear();
+  }
+
+  private static SSLContext buildSslContext(Configuration conf, ExceptionFactory exceptionFactory)
+      throws SQLException {
 
     TrustManager[] trustManager = null;
     KeyManager[] keyManager = null;
@@ -148,7 +205,7 @@ public class DefaultTlsSocketPlugin implements TlsSocketPlugin {
     try {
       SSLContext sslContext = SSLContext.getInstance("TLS");
       sslContext.init(keyManager, trustManager, null);
-      return sslContext.getSocketFactory();
+      return sslContext;
     } catch (KeyManagementException keyManagementEx) {
       throw exceptionFactory.create("Could not initialize SSL context", "08000", keyManagementEx);
     } catch (NoSuchAlgorithmException noSuchAlgorithmEx) {
@@ -0,0 +1,92 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.client.tls;
+
+import java.util.concurrent.atomic.LongAdder;
+import javax.net.ssl.SSLSession;
+
+/**
+ * JVM-wide TLS handshake statistics: number of handshakes, number of abbreviated handshakes
+ * resuming a previous session, and time spent in handshakes.
+ *
+ * <p>Session resumption only occurs when SSL context is shared between connections (option
+ * `cacheSslContext`). A handshake is considered resumed when the negotiated session was created
+ * before the handshake started.
+ */
+public final class TlsStatistics {
+
+  private static final LongAdder handshakes = new LongAdder();
+  private static final LongAdder resumedHandshakes = new LongAdder();
+  private static final LongAdder handshakeNanos = new LongAdder();
+
+  private TlsStatistics() {}
+
+  /**
+   * Record a completed handshake.
+   *
+   * @param session negotiated session
+   * @param startMillis handshake start, in milliseconds since epoch
+   * @param durationNanos handshake duration in nanoseconds
+   */
+  public static void record(SSLSession session, long startMillis, long durationNanos) {
+    handshakes.increment();
+    handshakeNanos.add(durationNanos);
+    if (session.getCreationTime() < startMillis) resumedHandshakes.increment();
+  }
+
+  /**
+   * Number of TLS handshakes.
+   *
+   * @return handshake number
+   */
+  public static long getHandshakes() {
+    return handshakes.sum();
+  }
+
+  /**
+   * Number of TLS handshakes that resumed a previous session.
+   *
+   * @return resumed handshake number
+   */
+  public static long getResumedHandshakes() {
+    return resumedHandshakes.sum();
+  }
+
+  /**
+   * Session resumption hit rate.
+   *
+   * @return ratio of resumed handshakes, 0 if no handshake occurred
+   */
+  public static double getResumptionRate() {
+    long total = handshakes.sum();
+    return total == 0 ? 0 : (double) resumedHandshakes.sum() / total;
+  }
+
+  /**
+   * Total time spent in TLS handshakes.
+   *
+   * @return time in nanoseconds
+   */
+  public static long getHandshakeTimeNanos() {
+    return handshakeNanos.sum();
+  }
+
+  /**
+   * Average TLS handshake time.
+   *
+   * @return time in nanoseconds, 0 if no handshake occurred
+   */
+  public static long getAverageHandshakeTimeNanos() {
+    long total = handshakes.sum();
+    return total == 0 ? 0 : handshakeNanos.sum() / total;
+  }
+
+  /** Reset statistics. */
+  public static void reset() {
+    handshakes.reset();
+    resumedHandshakes.reset();
+    handshakeNanos.reset();
+  }
+}
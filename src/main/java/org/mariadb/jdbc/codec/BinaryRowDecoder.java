@@ -12,10 +12,11 @@ import org.mariadb.jdbc.message.server.ColumnDefinitionPacket;
 
 public class BinaryRowDecoder extends RowDecoder {
 
-  private byte[] nullBitmap;
+  private final byte[] nullBitmap;
 
   public BinaryRowDecoder(int columnCount, ColumnDefinitionPacket[] columns, Configuration conf) {
     super(columnCount, columns, conf);
+    nullBitmap = new byte[(columnCount + 9) / 8];
   }
 
   @Override
@@ -59,15 +60,22 @@ public class BinaryRowDecoder extends RowDecoder {
   }
 
   @Override
-  public void setRow(byte[] buf) {
+  public void setRow(byte[] buf, int offset, int rowLength) {
     if (buf != null) {
-      this.readBuf.buf(buf, buf.length).pos(1); // skip 0x00 header
-      nullBitmap = new byte[(columnCount + 9) / 8];
-      this.readBuf.readBytes(nullBitmap).mark();
+      this.readBuf.buf(buf, offset + rowLength).pos(offset + 1); // skip 0x00 header
+      this.readBuf.readBytes(nullBitmap);
+      rowOffset = readBuf.pos();
     } else {
       this.readBuf.buf(null, 0);
+      rowOffset = offset;
     }
     index = -1;
+    knownColumns = 0;
+  }
+
+  @Override
+  public String decodeString() throws SQLException {
+    return StringCodec.INSTANCE.decodeBinary(readBuf, length, columns[index], null, dictionary());
   }
 
   @Override
@@ -75,99 +83,28 @@ public class BinaryRowDecoder extends RowDecoder {
     return (nullBitmap[(index + 2) / 8] & (1 << ((index + 2) % 8))) > 0;
   }
 
-  /**
-   * Set length and pos indicator to asked index.
-   *
-   * @param newIndex index (0 is first).
-   */
   @Override
-  public void setPosition(int newIndex) {
-
-    if (index >= newIndex) {
-      index = 0;
-      readBuf.reset();
-    } else {
-      index++;
-    }
-
-    while (index < newIndex) {
-      if ((nullBitmap[(index + 2) / 8] & (1 << ((index + 2) % 8))) == 0) {
-        // skip bytes
-        switch (columns[index].getType()) {
-          case BIGINT:
-          case DOUBLE:
-            readBuf.skip(8);
-            break;
-
-          case INTEGER:
-          case MEDIUMINT:
-          case FLOAT:
-            readBuf.skip(4);
-            break;
-
-          case SMALLINT:
-          case YEAR:
-            readBuf.skip(2);
-            break;
-
-          case TINYINT:
-            readBuf.skip(1);
-            break;
-
-          default:
-            int type = this.readBuf.readUnsignedByte();
-            switch (type) {
-              case 251:
-                break;
-
-              case 252:
-                this.readBuf.skip(this.readBuf.readUnsignedShort());
-                break;
-
-              case 253:
-                this.readBuf.skip(this.readBuf.readUnsignedMedium());
-                break;
-
-              case 254:
-                this.readBuf.skip((int) this.readBuf.readLong());
-                break;
-
-              default:
-                this.readBuf.skip(type);
-                break;
-            }
-            break;
-        }
-      }
-      index++;
-    }
-
-    if ((nullBitmap[(index + 2) / 8] & (1 << ((index + 2) % 8))) > 0) {
-      length = NULL_LENGTH;
-      return;
+  protected int readLength(int columnIndex) {
+    if ((nullBitmap[(columnIndex + 2) / 8] & (1 << ((columnIndex + 2) % 8))) > 0) {
+      return NULL_LENGTH;
     }
 
-    // read asked field position and length
-    switch (columns[index].getType()) {
+    switch (columns[columnIndex].getType()) {
       case BIGINT:
       case DOUBLE:
-        length = 8;
-        return;
+        return 8;
 
       case INTEGER:
       case MEDIUMINT:
       case FLOAT:
-        length = 4;
-        return;
+        return 4;
 
       case SMALLINT:
       case YEAR:
-        length = 2;
-        return;
+        return 2;
 
       case TINYINT:
-        length = 1;
-        return;
+        return 1;
 
       default:
         // field with variable length
@@ -182,23 +119,19 @@ public class BinaryRowDecoder extends RowDecoder {
 
           case 252:
             // length is encoded on 3 bytes (0xfc header + 2 bytes indicating length)
-            length = this.readBuf.readUnsignedShort();
-            return;
+            return this.readBuf.readUnsignedShort();
 
           case 253:
             // length is encoded on 4 bytes (0xfd header + 3 bytes indicating length)
-            length = this.readBuf.readUnsignedMedium();
-            return;
+            return this.readBuf.readUnsignedMedium();
 
           case 254:
             // length is encoded on 9 bytes (0xfe header + 8 bytes indicating length)
-            length = (int) this.readBuf.readLong();
-            return;
+            return (int) this.readBuf.readLong();
 
           default:
             // length is encoded on 1 bytes (is then less than 251)
-            length = len;
-            return;
+            return len;
         }
     }
   }
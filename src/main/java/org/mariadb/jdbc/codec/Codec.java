@@ -45,6 +45,17 @@ public interface Codec<T> {
     return false;
   }
 
+  /**
+   * Indicate if value must be sent in COM_STMT_SEND_LONG_DATA when using binary protocol.
+   *
+   * @param value value
+   * @param length maximum length, null if not limited
+   * @return true if value must be sent as long data
+   */
+  default boolean canEncodeLongData(T value, Long length) {
+    return canEncodeLongData();
+  }
+
   default void encodeLongData(PacketWriter encoder, T value, Long length)
       throws IOException, SQLException {
     throw new SQLException("Data is not supposed to be send in COM_STMT_LONG_DATA");
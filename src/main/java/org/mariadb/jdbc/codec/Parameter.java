@@ -57,7 +57,7 @@ public class Parameter<T> {
   }
 
   public boolean canEncodeLongData() {
-    return codec.canEncodeLongData();
+    return codec.canEncodeLongData(value, length);
   }
 
   public int getBinaryEncodeType() {
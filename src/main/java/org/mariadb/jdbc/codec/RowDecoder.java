@@ -9,6 +9,7 @@ import java.sql.SQLException;
 import java.util.*;
 import org.mariadb.jdbc.Configuration;
 import org.mariadb.jdbc.client.ReadableByteBuf;
+import org.mariadb.jdbc.codec.list.StringCodec;
 import org.mariadb.jdbc.message.server.ColumnDefinitionPacket;
 
 public abstract class RowDecoder {
@@ -19,21 +20,87 @@ public abstract class RowDecoder {
 
   protected int length;
   protected int index;
+  protected int rowOffset;
   protected final int columnCount;
   private Map<String, Integer> mapper = null;
 
+  // data offset and length of current row columns, known for the first `knownColumns` columns.
+  // Each column header is read once per row, whatever the access order.
+  private final int[] offsets;
+  private final int[] lengths;
+  protected int knownColumns;
+
+  // per column decoded string values, when option `stringDictionary` is set
+  private final StringDictionary[] dictionaries;
+
   public RowDecoder(int columnCount, ColumnDefinitionPacket[] columns, Configuration conf) {
     this.columnCount = columnCount;
     this.columns = columns;
     this.conf = conf;
+    this.offsets = new int[columnCount];
+    this.lengths = new int[columnCount];
+    this.dictionaries = conf.stringDictionary() ? new StringDictionary[columnCount] : null;
   }
 
   public void setRow(byte[] buf) {
-    this.readBuf.buf(buf, buf == null ? 0 : buf.length).pos(0);
+    setRow(buf, 0, buf == null ? 0 : buf.length);
+  }
+
+  /**
+   * Set current row, row data being a part of a bigger array.
+   *
+   * @param buf array containing row
+   * @param offset row offset in array
+   * @param rowLength row length
+   */
+  public void setRow(byte[] buf, int offset, int rowLength) {
+    this.readBuf.buf(buf, offset + rowLength).pos(offset);
+    rowOffset = offset;
     index = -1;
+    knownColumns = 0;
+  }
+
+  /**
+   * Set length and pos indicator to asked index. Columns offsets are recorded while reading
+   * forward, so any previous column is then accessed directly.
+   *
+   * @param newIndex index (0 is first).
+   */
+  public void setPosition(int newIndex) {
+    index = newIndex;
+    if (newIndex < knownColumns) {
+      length = lengths[newIndex];
+      readBuf.pos(offsets[newIndex]);
+      return;
+    }
+
+    // continue after last known column
+    if (knownColumns == 0) {
+      readBuf.pos(rowOffset);
+    } else {
+      int last = knownColumns - 1;
+      readBuf.pos(lengths[last] == NULL_LENGTH ? offsets[last] : offsets[last] + lengths[last]);
+    }
+
+    for (int i = knownColumns; i < newIndex; i++) {
+      int len = readLength(i);
+      offsets[i] = readBuf.pos();
+      lengths[i] = len;
+      if (len > 0) readBuf.skip(len);
+    }
+    length = readLength(newIndex);
+    offsets[newIndex] = readBuf.pos();
+    lengths[newIndex] = length;
+    knownColumns = newIndex + 1;
   }
 
-  public abstract void setPosition(int position);
+  /**
+   * Read column length indicator at current position, positioning buffer at column data.
+   *
+   * @param columnIndex column index (0 is first)
+   * @return data length, or NULL_LENGTH if value is null
+   */
+  protected abstract int readLength(int columnIndex);
 
   public abstract <T> T decode(Codec<T> codec, Calendar calendar) throws SQLException;
 
@@ -51,6 +118,23 @@ public abstract class RowDecoder {
 
   public abstract double decodeDouble() throws SQLException;
 
+  public abstract String decodeString() throws SQLException;
+
+  /**
+   * Current column string dictionary, created on first use.
+   *
+   * @return dictionary, or null if option `stringDictionary` is not set
+   */
+  protected StringDictionary dictionary() {
+    if (dictionaries == null) return null;
+    StringDictionary dictionary = dictionaries[index];
+    if (dictionary == null) {
+      dictionary = new StringDictionary();
+      dictionaries[index] = dictionary;
+    }
+    return dictionary;
+  }
+
   @SuppressWarnings("unchecked")
   public <T> T getValue(int index, Class<T> type, Calendar calendar) throws SQLException {
     checkIndexAndSetPosition(index);
@@ -67,6 +151,7 @@ public abstract class RowDecoder {
     // type generic, return "natural" java type
     if (Object.class.equals(type) || type == null) {
       Codec<T> defaultCodec = ((Codec<T>) column.getDefaultCodec(conf));
+      if (defaultCodec == StringCodec.INSTANCE) return (T) decodeString();
       return decode(defaultCodec, calendar);
     }
 
@@ -82,6 +167,34 @@ public abstract class RowDecoder {
 
   public abstract boolean wasNull();
 
+  /**
+   * Buffer containing current column value, permitting to copy value content without decoding.
+   * Value is {@link #valueLength()} bytes starting at {@link #valuePos()}.
+   *
+   * @return row buffer
+   */
+  public byte[] valueBuffer() {
+    return readBuf.buf();
+  }
+
+  /**
+   * Current column value position in {@link #valueBuffer()}.
+   *
+   * @return position
+   */
+  public int valuePos() {
+    return readBuf.pos();
+  }
+
+  /**
+   * Current column value length.
+   *
+   * @return length
+   */
+  public int valueLength() {
+    return length;
+  }
+
   private void checkIndexAndSetPosition(int index) throws SQLException {
     if (index < 1 || index > columnCount) {
       throw new SQLException(
@@ -167,6 +280,14 @@ public abstract class RowDecoder {
     return decodeDouble();
   }
 
+  public String getStringValue(int index) throws SQLException {
+    checkIndexAndSetPosition(index);
+    if (length == NULL_LENGTH) {
+      return null;
+    }
+    return decodeString();
+  }
+
   public <T> T getValue(String label, Codec<T> codec, Calendar cal) throws SQLException {
     return getValue(getIndex(label), codec, cal);
   }
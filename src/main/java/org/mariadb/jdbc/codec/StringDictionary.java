@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.codec;
+
+import java.util.Arrays;
+import org.mariadb.jdbc.client.ReadableByteBuf;
+
+/**
+ * Decoded values of a result-set column, for columns repeating a few distinct values (status,
+ * country, enum like values): a repeated value returns the already decoded String, avoiding UTF-8
+ * decoding and allocation.
+ *
+ * <p>Dictionary is a small open addressing hash table over value bytes, holding at most {@link
+ * #MAX_ENTRIES} values of at most {@link #MAX_LENGTH} bytes. Hit rate is checked every {@link
+ * #SAMPLE} lookups: dictionary disables itself when less than half of values are found, leaving
+ * only a flag check overhead for high cardinality columns.
+ *
+ * <p>Not thread-safe: a dictionary belongs to a result-set row decoder.
+ */
+public final class StringDictionary {
+
+  /** Maximum length in bytes of cached values. */
+  private static final int MAX_LENGTH = 64;
+
+  /** Maximum number of cached values. */
+  private static final int MAX_ENTRIES = 64;
+
+  /** Hash table capacity, power of two keeping load factor under 0.5. */
+  private static final int CAPACITY = 128;
+
+  /** Number of lookups between hit rate checks. */
+  private static final int SAMPLE = 1024;
+
+  private byte[][] keys = new byte[CAPACITY][];
+  private int[] hashes = new int[CAPACITY];
+  private String[] values = new String[CAPACITY];
+  private int size;
+  private int lookups;
+  private int hits;
+  private boolean enabled = true;
+
+  /**
+   * Read UTF-8 string value.
+   *
+   * @param buf buffer positioned on value
+   * @param length value length in bytes
+   * @return string value
+   */
+  public String readString(ReadableByteBuf buf, int length) {
+    if (!enabled || length > MAX_LENGTH) return buf.readString(length);
+
+    byte[] src = buf.buf();
+    int pos = buf.pos();
+    int hash = 1;
+    for (int i = pos; i < pos + length; i++) {
+      hash = 31 * hash + src[i];
+    }
+
+    int slot = hash & (CAPACITY - 1);
+    String value = null;
+    while (keys[slot] != null) {
+      if (hashes[slot] == hash && matches(keys[slot], src, pos, length)) {
+        value = values[slot];
+        break;
+      }
+      slot = (slot + 1) & (CAPACITY - 1);
+    }
+
+    if (value != null) {
+      hits++;
+      buf.skip(length);
+    } else {
+      value = buf.readString(length);
+      if (size < MAX_ENTRIES) {
+        keys[slot] = Arrays.copyOfRange(src, pos, pos + length);
+        hashes[slot] = hash;
+        values[slot] = value;
+        size++;
+      }
+    }
+
+    if (++lookups == SAMPLE) {
+      if (hits < SAMPLE / 2) {
+        // high cardinality column
+        enabled = false;
+        keys = null;
+        hashes = null;
+        values = null;
+      } else {
+        lookups = 0;
+        hits = 0;
+      }
+    }
+    return value;
+  }
+
+  private static boolean matches(byte[] key, byte[] src, int pos, int length) {
+    if (key.length != length) return false;
+    for (int i = 0; i < length; i++) {
+      if (key[i] != src[pos + i]) return false;
+    }
+    return true;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+}
@@ -56,64 +56,32 @@ public class TextRowDecoder extends RowDecoder {
     return DoubleCodec.INSTANCE.decodeTextDouble(readBuf, length, columns[index]);
   }
 
+  @Override
+  public String decodeString() throws SQLException {
+    return StringCodec.INSTANCE.decodeText(readBuf, length, columns[index], null, dictionary());
+  }
+
   @Override
   public boolean wasNull() {
     return length == NULL_LENGTH;
   }
 
-  /**
-   * Set length and pos indicator to asked index.
-   *
-   * @param newIndex index (0 is first).
-   */
   @Override
-  public void setPosition(int newIndex) {
-    if (index >= newIndex) {
-      index = 0;
-      readBuf.pos(0);
-    } else {
-      index++;
-    }
-
-    while (index < newIndex) {
-      short type = this.readBuf.readUnsignedByte();
-      switch (type) {
-        case 252:
-          readBuf.skip(readBuf.readUnsignedShort());
-          break;
-        case 253:
-          readBuf.skip(readBuf.readUnsignedMedium());
-          break;
-        case 254:
-          readBuf.skip((int) (4 + readBuf.readUnsignedInt()));
-          break;
-        case 251:
-          break;
-        default:
-          readBuf.skip(type);
-          break;
-      }
-      index++;
-    }
-
+  protected int readLength(int columnIndex) {
     short type = this.readBuf.readUnsignedByte();
     switch (type) {
       case 251:
-        length = NULL_LENGTH;
-        break;
+        return NULL_LENGTH;
       case 252:
-        length = readBuf.readUnsignedShort();
-        break;
+        return readBuf.readUnsignedShort();
       case 253:
-        length = readBuf.readUnsignedMedium();
-        break;
+        return readBuf.readUnsignedMedium();
       case 254:
-        length = (int) readBuf.readUnsignedInt();
+        int len = (int) readBuf.readUnsignedInt();
         readBuf.skip(4);
-        break;
+        return len;
       default:
-        length = type;
-        break;
+        return type;
     }
   }
 }
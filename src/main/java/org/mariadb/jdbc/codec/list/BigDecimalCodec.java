@@ -42,6 +42,49 @@ public class BigDecimalCodec implements Codec<BigDecimal> {
           DataType.MEDIUMBLOB,
           DataType.LONGBLOB);
 
+  /**
+   * Parse decimal text value directly from row bytes. Values of at most 18 digits without exponent
+   * are read into a long unscaled value, other values being parsed from their String
+   * representation.
+   *
+   * @param buf buffer positioned on value
+   * @param length value length
+   * @return decimal value
+   */
+  public static BigDecimal parseDecimal(ReadableByteBuf buf, int length) {
+    if (length <= 20) {
+      byte[] bytes = buf.buf();
+      int pos = buf.pos();
+      int end = pos + length;
+      boolean negate = pos < end && bytes[pos] == '-';
+      if (negate) pos++;
+
+      long unscaled = 0;
+      int scale = -1;
+      int digits = 0;
+      for (; pos < end; pos++) {
+        byte b = bytes[pos];
+        if (b >= '0' && b <= '9') {
+          unscaled = unscaled * 10 + b - '0';
+          digits++;
+          if (scale >= 0) scale++;
+        } else if (b == '.' && scale < 0) {
+          scale = 0;
+        } else {
+          // exponent or unexpected character
+          digits = 0;
+          break;
+        }
+      }
+
+      if (digits > 0 && digits <= 18) {
+        buf.skip(length);
+        return BigDecimal.valueOf(negate ? -unscaled : unscaled, Math.max(scale, 0));
+      }
+    }
+    return new BigDecimal(buf.readAscii(length));
+  }
+
   public String className() {
     return BigDecimal.class.getName();
   }
@@ -70,7 +113,7 @@ public class BigDecimalCodec implements Codec<BigDecimal> {
       case DECIMAL:
       case OLDDECIMAL:
       case YEAR:
-        return new BigDecimal(buf.readAscii(length));
+        return parseDecimal(buf, length);
 
       case BLOB:
       case TINYBLOB:
@@ -145,20 +188,17 @@ public class BigDecimalCodec implements Codec<BigDecimal> {
         return BigDecimal.valueOf(buf.readInt());
 
       case BIGINT:
-        BigInteger val;
         if (column.isSigned()) {
-          val = BigInteger.valueOf(buf.readLong());
+          return BigDecimal.valueOf(buf.readLong()).setScale(column.getDecimals());
         } else {
           // need BIG ENDIAN, so reverse order
           byte[] bb = new byte[8];
           for (int i = 7; i >= 0; i--) {
             bb[i] = buf.readByte();
           }
-          val = new BigInteger(1, bb);
+          return new BigDecimal(new BigInteger(1, bb)).setScale(column.getDecimals());
         }
 
-        return new BigDecimal(String.valueOf(val)).setScale(column.getDecimals());
-
       case FLOAT:
         return BigDecimal.valueOf(buf.readFloat());
 
@@ -188,8 +228,6 @@ public class BigDecimalCodec implements Codec<BigDecimal> {
       case VARCHAR:
       case VARSTRING:
       case STRING:
-      case DECIMAL:
-      case OLDDECIMAL:
         String str = buf.readString(length);
         try {
           return new BigDecimal(str);
@@ -198,6 +236,10 @@ public class BigDecimalCodec implements Codec<BigDecimal> {
               String.format("value '%s' cannot be decoded as BigDecimal", str));
         }
 
+      case DECIMAL:
+      case OLDDECIMAL:
+        return parseDecimal(buf, length);
+
       default:
         buf.skip(length);
         throw new SQLDataException(
@@ -65,7 +65,7 @@ public class BigIntegerCodec implements Codec<BigInteger> {
       case DOUBLE:
       case DECIMAL:
       case OLDDECIMAL:
-        return new BigDecimal(buf.readAscii(length)).toBigInteger();
+        return BigDecimalCodec.parseDecimal(buf, length).toBigInteger();
 
       case BLOB:
       case TINYBLOB:
@@ -104,6 +104,7 @@ public class BigIntegerCodec implements Codec<BigInteger> {
       case INTEGER:
       case BIGINT:
       case YEAR:
+        if (length < 19) return BigInteger.valueOf(LongCodec.parseNotEmpty(buf, length));
         return new BigInteger(buf.readAscii(length));
 
       default:
@@ -161,7 +162,7 @@ public class BigIntegerCodec implements Codec<BigInteger> {
         return BigDecimal.valueOf(buf.readDouble()).toBigInteger();
 
       case DECIMAL:
-        return new BigDecimal(buf.readAscii(length)).toBigInteger();
+        return BigDecimalCodec.parseDecimal(buf, length).toBigInteger();
 
       case BIGINT:
         if (column.isSigned()) return BigInteger.valueOf(buf.readLong());
@@ -196,22 +196,7 @@ public class BlobCodec implements Codec<Blob> {
   @Override
   public void encodeLongData(PacketWriter encoder, Blob value, Long maxLength)
       throws IOException, SQLException {
-    byte[] array = new byte[4096];
-    InputStream is = value.getBinaryStream();
-
-    if (maxLength == null) {
-      int len;
-      while ((len = is.read(array)) > 0) {
-        encoder.writeBytes(array, 0, len);
-      }
-    } else {
-      long maxLen = maxLength;
-      int len;
-      while (maxLen > 0 && (len = is.read(array)) > 0) {
-        encoder.writeBytes(array, 0, Math.min(len, (int) maxLen));
-        maxLen -= len;
-      }
-    }
+    encoder.writeStream(value.getBinaryStream(), maxLength);
   }
 
   @Override
@@ -6,6 +6,7 @@ package org.mariadb.jdbc.codec.list;
 
 import java.io.IOException;
 import java.sql.SQLDataException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.EnumSet;
 import org.mariadb.jdbc.client.ReadableByteBuf;
@@ -22,6 +23,12 @@ public class ByteArrayCodec implements Codec<byte[]> {
 
   public static final ByteArrayCodec INSTANCE = new ByteArrayCodec();
 
+  /**
+   * Binary protocol: arrays from this size are sent in COM_STMT_SEND_LONG_DATA, permitting to write
+   * them to socket without copying them to the packet buffer.
+   */
+  private static final int LONG_DATA_THRESHOLD = 128 * 1024;
+
   private static final EnumSet<DataType> COMPATIBLE_TYPES =
       EnumSet.of(
           DataType.BLOB,
@@ -107,6 +114,27 @@ public class ByteArrayCodec implements Codec<byte[]> {
     encoder.writeBytes(((byte[]) value), 0, length);
   }
 
+  private static int length(byte[] value, Long maxLength) {
+    return maxLength == null ? value.length : (int) Math.min(value.length, maxLength);
+  }
+
+  @Override
+  public boolean canEncodeLongData(byte[] value, Long maxLength) {
+    return value != null && length(value, maxLength) >= LONG_DATA_THRESHOLD;
+  }
+
+  @Override
+  public void encodeLongData(PacketWriter encoder, byte[] value, Long maxLength)
+      throws IOException {
+    encoder.writeBytesAndFlush(value, 0, length(value, maxLength));
+  }
+
+  @Override
+  public byte[] encodeData(byte[] value, Long maxLength) {
+    int length = length(value, maxLength);
+    return length == value.length ? value : Arrays.copyOf(value, length);
+  }
+
   public int getBinaryEncodeType() {
     return DataType.BLOB.get();
   }
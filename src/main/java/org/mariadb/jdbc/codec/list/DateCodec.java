@@ -9,6 +9,7 @@ import java.sql.Date;
 import java.sql.SQLDataException;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.EnumSet;
 import org.mariadb.jdbc.client.ReadableByteBuf;
@@ -84,6 +85,10 @@ public class DateCodec implements Codec<Date> {
       case VARSTRING:
       case STRING:
       case DATE:
+        if (cal == null && column.getType() == DataType.DATE) {
+          LocalDate date = LocalDateCodec.readStandardDate(buf, length);
+          if (date != null) return Date.valueOf(date);
+        }
         String val = buf.readString(length);
         if ("0000-00-00".equals(val)) return null;
         String[] stDatePart = val.split("-| ");
@@ -96,6 +101,10 @@ public class DateCodec implements Codec<Date> {
 
       case TIMESTAMP:
       case DATETIME:
+        if (cal == null) {
+          LocalDate date = LocalDateCodec.readStandardDate(buf, length);
+          if (date != null) return Date.valueOf(date);
+        }
         Timestamp lt = TimestampCodec.INSTANCE.decodeText(buf, length, column, cal);
         String st = lt.toString();
         return Date.valueOf(st.substring(0, 10));
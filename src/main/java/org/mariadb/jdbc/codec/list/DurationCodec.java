@@ -55,7 +55,7 @@ public class DurationCodec implements Codec<Duration> {
     switch (column.getType()) {
       case TIMESTAMP:
       case DATETIME:
-        parts = LocalDateTimeCodec.parseTimestamp(buf.readAscii(length));
+        parts = LocalDateTimeCodec.parseTimestamp(buf, length);
         if (parts == null) return null;
         return Duration.ZERO
             .plusDays(parts[2] - 1)
@@ -6,6 +6,7 @@ package org.mariadb.jdbc.codec.list;
 
 import java.io.IOException;
 import java.sql.SQLDataException;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
@@ -57,6 +58,35 @@ public class LocalDateCodec implements Codec<LocalDate> {
     return datePart;
   }
 
+  /**
+   * Read text date value in server format "yyyy-MM-dd", or date part of a "yyyy-MM-dd HH:mm:ss"
+   * timestamp value, fields being read at fixed offsets from row bytes.
+   *
+   * @param buf buffer positioned on value
+   * @param length value length
+   * @return value, or null (buffer position then unchanged) if value has another format, is a
+   *     zero-date or is not a valid date.
+   */
+  public static LocalDate readStandardDate(ReadableByteBuf buf, int length) {
+    byte[] bytes = buf.buf();
+    int pos = buf.pos();
+    if ((length != 10 && (length < 19 || bytes[pos + 10] != ' '))
+        || bytes[pos + 4] != '-'
+        || bytes[pos + 7] != '-') return null;
+
+    int year = LocalDateTimeCodec.digits(bytes, pos, 4);
+    int month = LocalDateTimeCodec.digits(bytes, pos + 5, 2);
+    int day = LocalDateTimeCodec.digits(bytes, pos + 8, 2);
+    if (year == 0 && month == 0 && day == 0) return null;
+    try {
+      LocalDate value = LocalDate.of(year, month, day);
+      buf.skip(length);
+      return value;
+    } catch (DateTimeException dte) {
+      return null;
+    }
+  }
+
   public String className() {
     return LocalDate.class.getName();
   }
@@ -92,12 +122,16 @@ public class LocalDateCodec implements Codec<LocalDate> {
         return LocalDate.of(y, 1, 1);
       case NEWDATE:
       case DATE:
+        LocalDate date = readStandardDate(buf, length);
+        if (date != null) return date;
         parts = parseDate(buf, length);
         break;
 
       case TIMESTAMP:
       case DATETIME:
-        parts = LocalDateTimeCodec.parseTimestamp(buf.readAscii(length));
+        LocalDate datePart = readStandardDate(buf, length);
+        if (datePart != null) return datePart;
+        parts = LocalDateTimeCodec.parseTimestamp(buf, length);
         break;
 
       case BLOB:
@@ -54,12 +54,21 @@ public class LocalDateTimeCodec implements Codec<LocalDateTime> {
             .toFormatter();
   }
 
-  public static int[] parseTimestamp(String raw) throws DateTimeException {
+  /**
+   * Parse text timestamp value directly from row bytes.
+   *
+   * @param buf buffer positioned on value
+   * @param length value length
+   * @return timestamp parts (year, month, day, hour, minutes, seconds, nanoseconds), or null for
+   *     zero-date
+   * @throws DateTimeException if value has not a timestamp format
+   */
+  public static int[] parseTimestamp(ReadableByteBuf buf, int length) throws DateTimeException {
     int nanoLen = -1;
     int[] timestampsPart = new int[] {0, 0, 0, 0, 0, 0, 0};
     int partIdx = 0;
-    for (int idx = 0; idx < raw.length(); idx++) {
-      char b = raw.charAt(idx);
+    for (int idx = 0; idx < length; idx++) {
+      byte b = buf.readByte();
       if (b == '-' || b == ' ' || b == ':') {
         partIdx++;
         continue;
@@ -92,6 +101,62 @@ public class LocalDateTimeCodec implements Codec<LocalDateTime> {
     return timestampsPart;
   }
 
+  /**
+   * Read text timestamp value in server format "yyyy-MM-dd HH:mm:ss[.S{1,6}]", fields being read at
+   * fixed offsets from row bytes.
+   *
+   * @param buf buffer positioned on value
+   * @param length value length
+   * @return value, or null (buffer position then unchanged) if value has another format, is a
+   *     zero-date or is not a valid date.
+   */
+  public static LocalDateTime readStandardTimestamp(ReadableByteBuf buf, int length) {
+    if (length < 19 || length == 20 || length > 26) return null;
+    byte[] bytes = buf.buf();
+    int pos = buf.pos();
+    if (bytes[pos + 4] != '-'
+        || bytes[pos + 7] != '-'
+        || bytes[pos + 10] != ' '
+        || bytes[pos + 13] != ':'
+        || bytes[pos + 16] != ':'
+        || (length > 19 && bytes[pos + 19] != '.')) return null;
+
+    int year = digits(bytes, pos, 4);
+    int month = digits(bytes, pos + 5, 2);
+    int day = digits(bytes, pos + 8, 2);
+    if (year == 0 && month == 0 && day == 0) return null;
+
+    int nanos = 0;
+    if (length > 19) {
+      nanos = digits(bytes, pos + 20, length - 20);
+      for (int i = length - 20; i < 9; i++) nanos *= 10;
+    }
+
+    try {
+      LocalDateTime value =
+          LocalDateTime.of(
+              year,
+              month,
+              day,
+              digits(bytes, pos + 11, 2),
+              digits(bytes, pos + 14, 2),
+              digits(bytes, pos + 17, 2),
+              nanos);
+      buf.skip(length);
+      return value;
+    } catch (DateTimeException dte) {
+      return null;
+    }
+  }
+
+  static int digits(byte[] bytes, int pos, int length) {
+    int value = 0;
+    for (int i = pos; i < pos + length; i++) {
+      value = value * 10 + bytes[i] - '0';
+    }
+    return value;
+  }
+
   public String className() {
     return LocalDateTime.class.getName();
   }
@@ -127,16 +192,18 @@ public class LocalDateTimeCodec implements Codec<LocalDateTime> {
       case STRING:
       case VARCHAR:
       case VARSTRING:
-        String val = buf.readString(length);
+        int pos = buf.pos();
         try {
-          parts = parseTimestamp(val);
+          parts = parseTimestamp(buf, length);
           if (parts == null) return null;
           return LocalDateTime.of(parts[0], parts[1], parts[2], parts[3], parts[4], parts[5])
               .plusNanos(parts[6]);
         } catch (DateTimeException dte) {
+          buf.pos(pos);
           throw new SQLDataException(
               String.format(
-                  "value '%s' (%s) cannot be decoded as LocalDateTime", val, column.getType()));
+                  "value '%s' (%s) cannot be decoded as LocalDateTime",
+                  buf.readString(length), column.getType()));
         }
 
       case DATE:
@@ -146,17 +213,19 @@ public class LocalDateTimeCodec implements Codec<LocalDateTime> {
 
       case DATETIME:
       case TIMESTAMP:
-        parts = parseTimestamp(buf.readAscii(length));
+        LocalDateTime value = readStandardTimestamp(buf, length);
+        if (value != null) return value;
+        parts = parseTimestamp(buf, length);
         if (parts == null) return null;
-        return LocalDateTime.of(parts[0], parts[1], parts[2], parts[3], parts[4], parts[5])
-            .plusNanos(parts[6]);
+        return LocalDateTime.of(
+            parts[0], parts[1], parts[2], parts[3], parts[4], parts[5], parts[6]);
 
       case TIME:
         parts = LocalTimeCodec.parseTime(buf, length, column);
         return LocalDateTime.of(1970, 1, 1, parts[1] % 24, parts[2], parts[3]).plusNanos(parts[4]);
 
       case YEAR:
-        int year = Integer.parseInt(buf.readAscii(length));
+        int year = (int) LongCodec.parseNotEmpty(buf, length);
         if (column.getLength() <= 2) year += year >= 70 ? 1900 : 2000;
         return LocalDateTime.of(year, 1, 1, 0, 0);
 
@@ -207,16 +276,18 @@ public class LocalDateTimeCodec implements Codec<LocalDateTime> {
       case STRING:
       case VARCHAR:
       case VARSTRING:
-        String val = buf.readString(length);
+        int pos = buf.pos();
         try {
-          int[] parts = parseTimestamp(val);
+          int[] parts = parseTimestamp(buf, length);
           if (parts == null) return null;
           return LocalDateTime.of(parts[0], parts[1], parts[2], parts[3], parts[4], parts[5])
               .plusNanos(parts[6]);
         } catch (DateTimeException dte) {
+          buf.pos(pos);
           throw new SQLDataException(
               String.format(
-                  "value '%s' (%s) cannot be decoded as LocalDateTime", val, column.getType()));
+                  "value '%s' (%s) cannot be decoded as LocalDateTime",
+                  buf.readString(length), column.getType()));
         }
 
       case DATE:
@@ -108,7 +108,7 @@ public class LocalTimeCodec implements Codec<LocalTime> {
     switch (column.getType()) {
       case TIMESTAMP:
       case DATETIME:
-        parts = LocalDateTimeCodec.parseTimestamp(buf.readString(length));
+        parts = LocalDateTimeCodec.parseTimestamp(buf, length);
         if (parts == null) return null;
         return LocalTime.of(parts[3], parts[4], parts[5], parts[6]);
 
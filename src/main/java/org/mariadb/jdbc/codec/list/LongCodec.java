@@ -100,9 +100,10 @@ public class LongCodec implements Codec<Long> {
         return parseNotEmpty(buf, length);
 
       case BIGINT:
-        if (column.isSigned()) {
+        if (column.isSigned() || length < 19) {
           return parseNotEmpty(buf, length);
         } else {
+          // unsigned value may exceed Long.MAX_VALUE
           BigInteger val = new BigInteger(buf.readAscii(length));
           try {
             return val.longValueExact();
@@ -157,19 +157,7 @@ public class StreamCodec implements Codec<InputStream> {
   @Override
   public void encodeLongData(PacketWriter encoder, InputStream value, Long maxLength)
       throws IOException {
-    byte[] array = new byte[4096];
-    int len;
-    if (maxLength == null) {
-      while ((len = value.read(array)) > 0) {
-        encoder.writeBytes(array, 0, len);
-      }
-    } else {
-      long maxLen = maxLength;
-      while ((len = value.read(array)) > 0 && maxLen > 0) {
-        encoder.writeBytes(array, 0, Math.min(len, (int) maxLen));
-        maxLen -= len;
-      }
-    }
+    encoder.writeStream(value, maxLength);
   }
 
   @Override
@@ -19,6 +19,7 @@ import org.mariadb.jdbc.client.context.Context;
 import org.mariadb.jdbc.client.socket.PacketWriter;
 import org.mariadb.jdbc.codec.Codec;
 import org.mariadb.jdbc.codec.DataType;
+import org.mariadb.jdbc.codec.StringDictionary;
 import org.mariadb.jdbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.jdbc.util.constants.ServerStatus;
 
@@ -73,6 +74,27 @@ public class StringCodec implements Codec<String> {
       final ColumnDefinitionPacket column,
       final Calendar cal)
       throws SQLDataException {
+    return decodeText(buf, length, column, cal, null);
+  }
+
+  /**
+   * Decode text protocol value, string values being read through column dictionary if any.
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @param column column definition
+   * @param cal calendar
+   * @param dictionary column dictionary, null if not used
+   * @return string value
+   * @throws SQLDataException if value cannot be decoded as String
+   */
+  public String decodeText(
+      final ReadableByteBuf buf,
+      final int length,
+      final ColumnDefinitionPacket column,
+      final Calendar cal,
+      final StringDictionary dictionary)
+      throws SQLDataException {
     switch (column.getType()) {
       case BIT:
         byte[] bytes = new byte[length];
@@ -101,10 +123,10 @@ public class StringCodec implements Codec<String> {
           throw new SQLDataException(
               String.format("Data type %s cannot be decoded as String", column.getType()));
         }
-        return buf.readString(length);
+        return dictionary == null ? buf.readString(length) : dictionary.readString(buf, length);
 
       default:
-        return buf.readString(length);
+        return dictionary == null ? buf.readString(length) : dictionary.readString(buf, length);
     }
   }
 
@@ -114,6 +136,27 @@ public class StringCodec implements Codec<String> {
       final ColumnDefinitionPacket column,
       final Calendar cal)
       throws SQLDataException {
+    return decodeBinary(buf, length, column, cal, null);
+  }
+
+  /**
+   * Decode binary protocol value, string values being read through column dictionary if any.
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @param column column definition
+   * @param cal calendar
+   * @param dictionary column dictionary, null if not used
+   * @return string value
+   * @throws SQLDataException if value cannot be decoded as String
+   */
+  public String decodeBinary(
+      final ReadableByteBuf buf,
+      final int length,
+      final ColumnDefinitionPacket column,
+      final Calendar cal,
+      final StringDictionary dictionary)
+      throws SQLDataException {
     switch (column.getType()) {
       case BIT:
         byte[] bytes = new byte[length];
@@ -282,10 +325,10 @@ public class StringCodec implements Codec<String> {
           throw new SQLDataException(
               String.format("Data type %s cannot be decoded as String", column.getType()));
         }
-        return buf.readString(length);
+        return dictionary == null ? buf.readString(length) : dictionary.readString(buf, length);
 
       default:
-        return buf.readString(length);
+        return dictionary == null ? buf.readString(length) : dictionary.readString(buf, length);
     }
   }
 
@@ -10,6 +10,8 @@ import java.sql.SQLDataException;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Calendar;
 import java.util.EnumSet;
 import java.util.TimeZone;
@@ -89,7 +91,7 @@ public class TimestampCodec implements Codec<Timestamp> {
       case YEAR:
         Calendar cal1 = calParam == null ? Calendar.getInstance() : calParam;
 
-        int year = Integer.parseInt(buf.readAscii(length));
+        int year = (int) LongCodec.parseNotEmpty(buf, length);
         if (column.getLength() <= 2) year += year >= 70 ? 1900 : 2000;
         synchronized (cal1) {
           cal1.clear();
@@ -99,6 +101,8 @@ public class TimestampCodec implements Codec<Timestamp> {
 
       case DATE:
         if (calParam == null || calParam.getTimeZone().equals(TimeZone.getDefault())) {
+          LocalDate date = LocalDateCodec.readStandardDate(buf, length);
+          if (date != null) return Timestamp.valueOf(date.atStartOfDay());
           String s = buf.readAscii(length);
           if ("0000-00-00".equals(s)) return null;
           return new Timestamp(Date.valueOf(s).getTime());
@@ -131,6 +135,11 @@ public class TimestampCodec implements Codec<Timestamp> {
       case VARSTRING:
       case TIMESTAMP:
       case DATETIME:
+        if (calParam == null
+            && (column.getType() == DataType.TIMESTAMP || column.getType() == DataType.DATETIME)) {
+          LocalDateTime value = LocalDateTimeCodec.readStandardTimestamp(buf, length);
+          if (value != null) return Timestamp.valueOf(value);
+        }
         int pos = buf.pos();
         int nanoBegin = -1;
         int[] timestampsPart = new int[] {0, 0, 0, 0, 0, 0, 0};
@@ -258,9 +267,9 @@ public class TimestampCodec implements Codec<Timestamp> {
       case STRING:
       case VARCHAR:
       case VARSTRING:
-        String val = buf.readString(length);
+        int pos = buf.pos();
         try {
-          int[] parts = LocalDateTimeCodec.parseTimestamp(val);
+          int[] parts = LocalDateTimeCodec.parseTimestamp(buf, length);
           if (parts == null) return null;
           year = parts[0];
           month = parts[1];
@@ -271,9 +280,11 @@ public class TimestampCodec implements Codec<Timestamp> {
           microseconds = parts[6] / 1000;
           break;
         } catch (DateTimeException dte) {
+          buf.pos(pos);
           throw new SQLDataException(
               String.format(
-                  "value '%s' (%s) cannot be decoded as Timestamp", val, column.getType()));
+                  "value '%s' (%s) cannot be decoded as Timestamp",
+                  buf.readString(length), column.getType()));
         }
 
       case DATE:
@@ -20,6 +20,7 @@ import org.mariadb.jdbc.client.result.StreamingResult;
 import org.mariadb.jdbc.client.result.UpdatableResult;
 import org.mariadb.jdbc.client.socket.PacketReader;
 import org.mariadb.jdbc.client.socket.PacketWriter;
+import org.mariadb.jdbc.message.server.ColumnDefinitionCache;
 import org.mariadb.jdbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.jdbc.message.server.Completion;
 import org.mariadb.jdbc.message.server.ErrorPacket;
@@ -88,15 +89,11 @@ public interface ClientMessage {
         String fileName = buf.readStringNullEnd();
         InputStream is = null;
         try {
-          is = new FileInputStream(fileName);
+          // application might have provided data in place of file
+          if (stmt != null) is = stmt.nextLocalInfileInputStream(fileName);
+          if (is == null) is = new FileInputStream(fileName);
 
-          byte[] fileBuf = new byte[8192];
-          int len;
-          while ((len = is.read(fileBuf)) > 0) {
-            writer.writeBytes(fileBuf, 0, len);
-            writer.flush();
-          }
-          writer.writeEmptyPacket();
+          writer.writeLocalInfile(is);
           return readPacket(
               stmt,
               fetchSize,
@@ -143,14 +140,13 @@ public interface ClientMessage {
         if (context.canSkipMeta() && this.canSkipMeta()) {
           boolean skipMeta = buf.readByte() == 0;
           if (skipMeta) {
+            // metadata unchanged since last execution: reuse prepare cached columns
             ci = ((BasePreparedStatement) stmt).getMeta();
           } else {
             // read columns information's
             ci = new ColumnDefinitionPacket[fieldCount];
             for (int i = 0; i < fieldCount; i++) {
-              ci[i] =
-                  new ColumnDefinitionPacket(
-                      reader.readPacket(false, traceEnable), context.isExtendedInfo());
+              ci[i] = ColumnDefinitionCache.read(reader.readPacket(false, traceEnable), context);
             }
             ((BasePreparedStatement) stmt).updateMeta(ci);
             if (!context.isEofDeprecated()) {
@@ -162,9 +158,7 @@ public interface ClientMessage {
           // read columns information's
           ci = new ColumnDefinitionPacket[fieldCount];
           for (int i = 0; i < fieldCount; i++) {
-            ci[i] =
-                new ColumnDefinitionPacket(
-                    reader.readPacket(false, traceEnable), context.isExtendedInfo());
+            ci[i] = ColumnDefinitionCache.read(reader.readPacket(false, traceEnable), context);
           }
           if (!context.isEofDeprecated()) {
             // skip intermediate EOF
@@ -0,0 +1,114 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.message.server;
+
+import java.util.concurrent.ConcurrentHashMap;
+import org.mariadb.jdbc.client.ReadableByteBuf;
+import org.mariadb.jdbc.client.context.Context;
+
+/**
+ * JVM-wide cache of column definitions, keyed by column definition packet raw bytes. When option
+ * `internColumnMetadata` is set, connections receiving identical column definitions share one
+ * instance, with names decoded once.
+ *
+ * <p>Shared instances have all names decoded before publication, so are read-only. Cache is
+ * bounded: it is cleared when reaching {@link #MAX_SIZE} entries.
+ */
+public final class ColumnDefinitionCache {
+
+  /** Maximum number of cached column definitions. */
+  public static final int MAX_SIZE = 8192;
+
+  private static final ConcurrentHashMap<Key, ColumnDefinitionPacket> cache =
+      new ConcurrentHashMap<>();
+
+  private ColumnDefinitionCache() {}
+
+  /**
+   * Read column definition packet, using cached instance if option `internColumnMetadata` is set.
+   *
+   * @param buf column definition packet. Buffer array must not be modified afterward
+   * @param context connection context
+   * @return column definition
+   */
+  public static ColumnDefinitionPacket read(ReadableByteBuf buf, Context context) {
+    if (!context.getConf().internColumnMetadata()) {
+      return new ColumnDefinitionPacket(buf, context.isExtendedInfo());
+    }
+    return intern(buf, context.isExtendedInfo());
+  }
+
+  /**
+   * Get shared column definition corresponding to packet.
+   *
+   * @param buf column definition packet. Buffer array must not be modified afterward
+   * @param extendedInfo server send extended type information
+   * @return shared column definition
+   */
+  public static ColumnDefinitionPacket intern(ReadableByteBuf buf, boolean extendedInfo) {
+    // key refers to packet array, kept by column definition anyway
+    Key key = new Key(buf.buf(), buf.pos(), buf.readableBytes(), extendedInfo);
+    ColumnDefinitionPacket column = cache.get(key);
+    if (column != null) return column;
+
+    column = new ColumnDefinitionPacket(buf, extendedInfo).decodeNames();
+    if (cache.size() >= MAX_SIZE) cache.clear();
+    ColumnDefinitionPacket previous = cache.putIfAbsent(key, column);
+    return previous != null ? previous : column;
+  }
+
+  /** Clear cache. */
+  public static void clear() {
+    cache.clear();
+  }
+
+  /**
+   * Number of cached column definitions.
+   *
+   * @return cache size
+   */
+  public static int size() {
+    return cache.size();
+  }
+
+  private static final class Key {
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+    private final boolean extendedInfo;
+    private final int hash;
+
+    Key(byte[] bytes, int offset, int length, boolean extendedInfo) {
+      this.bytes = bytes;
+      this.offset = offset;
+      this.length = length;
+      this.extendedInfo = extendedInfo;
+      int h = extendedInfo ? 1 : 0;
+      for (int i = offset; i < offset + length; i++) {
+        h = 31 * h + bytes[i];
+      }
+      this.hash = h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Key)) return false;
+      Key that = (Key) o;
+      if (hash != that.hash || length != that.length || extendedInfo != that.extendedInfo) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (bytes[offset + i] != that.bytes[that.offset + i]) return false;
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -27,6 +27,13 @@ public class ColumnDefinitionPacket implements ServerMessage {
   private final String extTypeName;
   private boolean useAliasAsName;
 
+  // decoded names
+  private String schema;
+  private String tableAlias;
+  private String table;
+  private String columnAlias;
+  private String column;
+
   private ColumnDefinitionPacket(
       ReadableByteBuf buf,
       int charset,
@@ -45,6 +52,23 @@ public class ColumnDefinitionPacket implements ServerMessage {
     this.extTypeName = null;
   }
 
+  private ColumnDefinitionPacket(ColumnDefinitionPacket other, boolean useAliasAsName) {
+    this.buf = other.buf;
+    this.charset = other.charset;
+    this.length = other.length;
+    this.dataType = other.dataType;
+    this.decimals = other.decimals;
+    this.flags = other.flags;
+    this.stringPos = other.stringPos;
+    this.extTypeName = other.extTypeName;
+    this.useAliasAsName = useAliasAsName;
+    this.schema = other.schema;
+    this.tableAlias = other.tableAlias;
+    this.table = other.table;
+    this.columnAlias = other.columnAlias;
+    this.column = other.column;
+  }
+
   public ColumnDefinitionPacket(ReadableByteBuf buf, boolean extendedInfo) {
     // skip first strings
     stringPos = new int[5];
@@ -138,30 +162,51 @@ public class ColumnDefinitionPacket implements ServerMessage {
   }
 
   public String getSchema() {
-    buf.pos(stringPos[0]);
-    return buf.readString(buf.readLength());
+    if (schema == null) schema = readString(0);
+    return schema;
   }
 
   public String getTableAlias() {
-    buf.pos(stringPos[1]);
-    return buf.readString(buf.readLength());
+    if (tableAlias == null) tableAlias = readString(1);
+    return tableAlias;
   }
 
   public String getTable() {
-    buf.pos(stringPos[useAliasAsName ? 1 : 2]);
-    return buf.readString(buf.readLength());
+    if (useAliasAsName) return getTableAlias();
+    if (table == null) table = readString(2);
+    return table;
   }
 
   public String getColumnAlias() {
-    buf.pos(stringPos[3]);
-    return buf.readString(buf.readLength());
+    if (columnAlias == null) columnAlias = readString(3);
+    return columnAlias;
   }
 
   public String getColumn() {
-    buf.pos(stringPos[4]);
+    if (column == null) column = readString(4);
+    return column;
+  }
+
+  private String readString(int index) {
+    buf.pos(stringPos[index]);
     return buf.readString(buf.readLength());
   }
 
+  /**
+   * Decode all names, so packet can be shared between threads: getters will not read buffer
+   * anymore.
+   *
+   * @return current object
+   */
+  ColumnDefinitionPacket decodeNames() {
+    getSchema();
+    getTableAlias();
+    getTable();
+    getColumnAlias();
+    getColumn();
+    return this;
+  }
+
   public long getLength() {
     return length;
   }
@@ -400,7 +445,13 @@ public class ColumnDefinitionPacket implements ServerMessage {
     return Objects.hash(charset, length, dataType, decimals, flags);
   }
 
-  public void useAliasAsName() {
-    useAliasAsName = true;
+  /**
+   * Return column definition using table alias as table name. Current object is not modified, since
+   * it might be shared.
+   *
+   * @return column definition using alias
+   */
+  public ColumnDefinitionPacket useAliasAsName() {
+    return new ColumnDefinitionPacket(this, true);
   }
 }
@@ -4,6 +4,7 @@
 
 package org.mariadb.jdbc.message.server;
 
+import org.mariadb.jdbc.TransactionIsolation;
 import org.mariadb.jdbc.client.ReadableByteBuf;
 import org.mariadb.jdbc.client.context.Context;
 import org.mariadb.jdbc.util.constants.Capabilities;
@@ -36,6 +37,19 @@ public class OkPacket implements Completion {
               Integer len = buf.readLength();
               String value = len == null ? null : buf.readString(len);
               logger.debug("System variable change:  {} = {}", variable, value);
+              if ("tx_isolation".equals(variable) || "transaction_isolation".equals(variable)) {
+                if (value == null) {
+                  context.setTransactionIsolationTracked(false);
+                } else {
+                  try {
+                    context.setTransactionIsolationLevel(
+                        TransactionIsolation.from(value).getLevel());
+                  } catch (IllegalArgumentException e) {
+                    // unknown isolation name
+                    context.setTransactionIsolationTracked(false);
+                  }
+                }
+              }
               break;
 
             case StateChange.SESSION_TRACK_SCHEMA:
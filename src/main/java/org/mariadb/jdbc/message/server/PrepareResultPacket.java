@@ -10,7 +10,6 @@ import org.mariadb.jdbc.ServerPreparedStatement;
 import org.mariadb.jdbc.client.*;
 import org.mariadb.jdbc.client.context.Context;
 import org.mariadb.jdbc.client.socket.PacketReader;
-import org.mariadb.jdbc.util.constants.Capabilities;
 import org.mariadb.jdbc.util.log.Logger;
 import org.mariadb.jdbc.util.log.Loggers;
 
@@ -32,11 +31,7 @@ public class PrepareResultPacket implements Completion {
     this.columns = new ColumnDefinitionPacket[numColumns];
     if (numParams > 0) {
       for (int i = 0; i < numParams; i++) {
-        parameters[i] =
-            new ColumnDefinitionPacket(
-                reader.readPacket(false, trace),
-                (context.getServerCapabilities() & Capabilities.MARIADB_CLIENT_EXTENDED_TYPE_INFO)
-                    > 0);
+        parameters[i] = ColumnDefinitionCache.read(reader.readPacket(false, trace), context);
       }
       if (!context.isEofDeprecated()) {
         reader.readPacket(true, trace);
@@ -44,11 +39,7 @@ public class PrepareResultPacket implements Completion {
     }
     if (numColumns > 0) {
       for (int i = 0; i < numColumns; i++) {
-        columns[i] =
-            new ColumnDefinitionPacket(
-                reader.readPacket(false, trace),
-                (context.getServerCapabilities() & Capabilities.MARIADB_CLIENT_EXTENDED_TYPE_INFO)
-                    > 0);
+        columns[i] = ColumnDefinitionCache.read(reader.readPacket(false, trace), context);
       }
       if (!context.isEofDeprecated()) {
         reader.readPacket(true, trace);
@@ -7,6 +7,7 @@ package org.mariadb.jdbc.plugin.authentication;
 import java.io.IOException;
 import java.sql.SQLException;
 import org.mariadb.jdbc.Configuration;
+import org.mariadb.jdbc.HostAddress;
 import org.mariadb.jdbc.client.ReadableByteBuf;
 import org.mariadb.jdbc.client.context.Context;
 import org.mariadb.jdbc.client.socket.PacketReader;
@@ -30,6 +31,20 @@ public interface AuthenticationPlugin {
    */
   void initialize(String authenticationData, byte[] seed, Configuration conf);
 
+  /**
+   * Plugin initialization, with server host. Plugins caching server data between connections can
+   * override this method.
+   *
+   * @param authenticationData authentication data (password/token)
+   * @param seed server provided seed
+   * @param conf Connection options
+   * @param hostAddress host, null for named pipe / unix socket
+   */
+  default void initialize(
+      String authenticationData, byte[] seed, Configuration conf, HostAddress hostAddress) {
+    initialize(authenticationData, seed, conf);
+  }
+
   /**
    * Process plugin authentication.
    *
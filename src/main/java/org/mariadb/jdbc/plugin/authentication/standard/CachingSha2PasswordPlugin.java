@@ -16,8 +16,10 @@ import java.security.spec.X509EncodedKeySpec;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.crypto.Cipher;
 import org.mariadb.jdbc.Configuration;
+import org.mariadb.jdbc.HostAddress;
 import org.mariadb.jdbc.SslMode;
 import org.mariadb.jdbc.client.ReadableByteBuf;
 import org.mariadb.jdbc.client.context.Context;
@@ -25,15 +27,27 @@ import org.mariadb.jdbc.client.socket.PacketReader;
 import org.mariadb.jdbc.client.socket.PacketWriter;
 import org.mariadb.jdbc.message.client.AuthMoreRawPacket;
 import org.mariadb.jdbc.message.server.AuthSwitchPacket;
+import org.mariadb.jdbc.message.server.ErrorPacket;
 import org.mariadb.jdbc.plugin.authentication.AuthenticationPlugin;
+import org.mariadb.jdbc.util.exceptions.AuthenticationRetryException;
+import org.mariadb.jdbc.util.log.Logger;
+import org.mariadb.jdbc.util.log.Loggers;
 
 public class CachingSha2PasswordPlugin implements AuthenticationPlugin {
 
   public static final String TYPE = "caching_sha2_password";
+  private static final Logger logger = Loggers.getLogger(CachingSha2PasswordPlugin.class);
+
+  // parsed RSA public keys, keyed by file path (option `serverRsaPublicKeyFile`) or by host when
+  // retrieved from server. An access denied error when using a cached key evicts it and retries
+  // connection once, since key might have changed: a wrong password then costs one extra failed
+  // login (counted by FAILED_LOGIN_ATTEMPTS / max_connect_errors)
+  private static final ConcurrentHashMap<Object, PublicKey> publicKeys = new ConcurrentHashMap<>();
 
   private String authenticationData;
   private byte[] seed;
   private Configuration conf;
+  private HostAddress hostAddress;
 
   /**
    * Send a SHA-2 encrypted password. encryption XOR(SHA256(password), SHA256(seed,
@@ -88,6 +102,18 @@ public class CachingSha2PasswordPlugin implements AuthenticationPlugin {
     this.conf = conf;
   }
 
+  @Override
+  public void initialize(
+      String authenticationData, byte[] seed, Configuration conf, HostAddress hostAddress) {
+    initialize(authenticationData, seed, conf);
+    this.hostAddress = hostAddress;
+  }
+
+  /** Clear cached RSA public keys. */
+  public static void clearPublicKeyCache() {
+    publicKeys.clear();
+  }
+
   /**
    * Process native password plugin authentication. see
    * https://mariadb.com/kb/en/library/authentication-plugin-mysql_native_password/
@@ -129,34 +155,41 @@ public class CachingSha2PasswordPlugin implements AuthenticationPlugin {
               out.flush();
 
             } else {
-              // retrieve public key from configuration or from server
-              PublicKey publicKey;
-              if (conf.serverRsaPublicKeyFile() != null) {
-                publicKey = readPublicKeyFromFile(conf.serverRsaPublicKeyFile());
-              } else {
-                // read public key from socket
-                if (!conf.allowPublicKeyRetrieval()) {
-                  throw new SQLException(
-                      "RSA public key is not available client side (option serverRsaPublicKeyFile not set)",
-                      "S1009");
-                }
-
-                // ask public Key Retrieval
-                out.writeByte(2);
-                out.flush();
-
-                buf = in.readPacket(true);
-                switch (buf.getByte(0)) {
-                  case (byte) 0xFF:
-                  case (byte) 0xFE:
-                    return buf;
-
-                  default:
-                    // AuthMoreData packet
-                    buf.skip();
-                    byte[] authMoreData = new byte[buf.readableBytes()];
-                    buf.readBytes(authMoreData);
-                    publicKey = generatePublicKey(authMoreData);
+              // retrieve public key from cache, configuration or from server
+              Object cacheKey =
+                  conf.serverRsaPublicKeyFile() != null
+                      ? conf.serverRsaPublicKeyFile()
+                      : conf.allowPublicKeyRetrieval() ? hostAddress : null;
+              PublicKey publicKey = cacheKey == null ? null : publicKeys.get(cacheKey);
+              boolean cachedKey = publicKey != null;
+              if (publicKey == null) {
+                if (conf.serverRsaPublicKeyFile() != null) {
+                  publicKey = readPublicKeyFromFile(conf.serverRsaPublicKeyFile());
+                } else {
+                  // read public key from socket
+                  if (!conf.allowPublicKeyRetrieval()) {
+                    throw new SQLException(
+                        "RSA public key is not available client side (option serverRsaPublicKeyFile not set)",
+                        "S1009");
+                  }
+
+                  // ask public Key Retrieval
+                  out.writeByte(2);
+                  out.flush();
+
+                  buf = in.readPacket(true);
+                  switch (buf.getByte()) {
+                    case (byte) 0xFF:
+                    case (byte) 0xFE:
+                      return buf;
+
+                    default:
+                      // AuthMoreData packet
+                      buf.skip();
+                      byte[] authMoreData = new byte[buf.readableBytes()];
+                      buf.readBytes(authMoreData);
+                      publicKey = generatePublicKey(authMoreData);
+                  }
                 }
               }
 
@@ -168,6 +201,26 @@ public class CachingSha2PasswordPlugin implements AuthenticationPlugin {
                 throw new SQLException(
                     "Could not connect using SHA256 plugin : " + ex.getMessage(), "S1009", ex);
               }
+
+              buf = in.readPacket(true);
+              if (buf.getByte() != (byte) 0xFF) {
+                if (!cachedKey && cacheKey != null) publicKeys.put(cacheKey, publicKey);
+              } else if (cachedKey && accessDenied(buf)) {
+                // server key might have changed since cached: connection must be retried
+                // retrieving key again
+                publicKeys.remove(cacheKey, publicKey);
+                ErrorPacket errorPacket = new ErrorPacket(buf, context);
+                if (logger.isDebugEnabled()) {
+                  logger.debug(
+                      "Access denied using cached RSA public key, retrying with key retrieved from"
+                          + " server");
+                }
+                throw new AuthenticationRetryException(
+                    errorPacket.getMessage(),
+                    errorPacket.getSqlState(),
+                    errorPacket.getErrorCode());
+              }
+              return buf;
             }
 
             return in.readPacket(true);
@@ -224,6 +277,20 @@ public class CachingSha2PasswordPlugin implements AuthenticationPlugin {
     }
   }
 
+  /**
+   * Check if error packet is an access denied error (1045), without consuming buffer.
+   *
+   * @param buf error packet buffer
+   * @return true if access denied error
+   */
+  private static boolean accessDenied(ReadableByteBuf buf) {
+    buf.mark();
+    buf.skip();
+    short errorCode = buf.readShort();
+    buf.reset();
+    return errorCode == 1045;
+  }
+
   /**
    * Encode password with seed and public key.
    *
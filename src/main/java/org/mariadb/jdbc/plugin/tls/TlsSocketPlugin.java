@@ -7,6 +7,7 @@ package org.mariadb.jdbc.plugin.tls;
 import java.io.IOException;
 import java.net.Socket;
 import java.sql.SQLException;
+import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLSession;
 import javax.net.ssl.SSLSocket;
@@ -54,6 +55,23 @@ public interface TlsSocketPlugin {
             true);
   }
 
+  /**
+   * Create a client SSL engine, used by NIO transport (option `useNioTransport`).
+   *
+   * @param conf connection string option
+   * @param exceptionFactory exception handler
+   * @param host server host, used for SNI and session resumption. Can be null.
+   * @param port server port
+   * @return SSL engine
+   * @throws SQLException if plugin doesn't support SSL engine or configuration failed.
+   */
+  default SSLEngine createEngine(
+      Configuration conf, ExceptionFactory exceptionFactory, String host, int port)
+      throws SQLException {
+    throw exceptionFactory.notSupported(
+        String.format("TLS plugin '%s' doesn't support NIO transport", type()));
+  }
+
   /**
    * Host name verifier implementation.
    *
@@ -0,0 +1,20 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.util.exceptions;
+
+import java.sql.SQLException;
+
+/**
+ * Authentication failed using cached authentication data (like server RSA public key) that has
+ * since been invalidated: connection can be retried once on a new socket.
+ */
+public class AuthenticationRetryException extends SQLException {
+
+  private static final long serialVersionUID = -2981712436538751432L;
+
+  public AuthenticationRetryException(String message, String sqlState, int errorCode) {
+    super(message, sqlState, errorCode);
+  }
+}
@@ -0,0 +1,71 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import org.mariadb.jdbc.client.result.RowSubscription;
+
+/**
+ * Publisher of query rows (java 9+). Each subscription executes query on statement, rows being read
+ * from socket according to subscriber demand. Cancelling subscription skips remaining rows.
+ *
+ * <p>Rows are emitted as the result set positioned on the row: values are decoded only when
+ * retrieved, and are only valid during {@code onNext} call.
+ *
+ * <pre>{@code
+ * Flow.Publisher<ResultSet> publisher = new RowPublisher(stmt, "SELECT * FROM someTable");
+ * }</pre>
+ */
+public class RowPublisher implements Flow.Publisher<ResultSet> {
+
+  private final Statement stmt;
+  private final String sql;
+
+  /**
+   * Constructor.
+   *
+   * @param stmt statement used to execute query. Statement must not be used by another subscription
+   *     at the same time
+   * @param sql query
+   */
+  public RowPublisher(Statement stmt, String sql) {
+    this.stmt = stmt;
+    this.sql = sql;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super ResultSet> subscriber) {
+    Objects.requireNonNull(subscriber);
+    subscriber.onSubscribe(new Subscription(stmt, sql, subscriber));
+  }
+
+  private static final class Subscription extends RowSubscription implements Flow.Subscription {
+    private final Flow.Subscriber<? super ResultSet> subscriber;
+
+    private Subscription(
+        Statement stmt, String sql, Flow.Subscriber<? super ResultSet> subscriber) {
+      super(stmt, sql);
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    protected void onNext(ResultSet row) {
+      subscriber.onNext(row);
+    }
+
+    @Override
+    protected void onError(Throwable throwable) {
+      subscriber.onError(throwable);
+    }
+
+    @Override
+    protected void onComplete() {
+      subscriber.onComplete();
+    }
+  }
+}
@@ -6,6 +6,8 @@ import org.mariadb.jdbc.Configuration;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SocketChannel;
 
 public class SocketHelper {
     public static void setSocketOption(final Configuration conf, final Socket socket) throws IOException {
@@ -36,4 +38,30 @@ public class SocketHelper {
             socket.bind(localAddress);
         }
     }
+
+    public static void setChannelOption(final Configuration conf, final SocketChannel channel) throws IOException {
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        if (conf.tcpKeepAlive()) {
+            channel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+        }
+        if (conf.tcpAbortiveClose()) {
+            channel.setOption(StandardSocketOptions.SO_LINGER, 0);
+        }
+
+        // java 11 only
+        if (conf.tcpKeepIdle() > 0) {
+            channel.setOption(ExtendedSocketOptions.TCP_KEEPIDLE, conf.tcpKeepIdle());
+        }
+        if (conf.tcpKeepCount() > 0) {
+            channel.setOption(ExtendedSocketOptions.TCP_KEEPCOUNT, conf.tcpKeepCount());
+        }
+        if (conf.tcpKeepInterval() > 0) {
+            channel.setOption(ExtendedSocketOptions.TCP_KEEPINTERVAL, conf.tcpKeepInterval());
+        }
+
+        if (conf.localSocketAddress() != null) {
+            InetSocketAddress localAddress = new InetSocketAddress(conf.localSocketAddress(), 0);
+            channel.bind(localAddress);
+        }
+    }
 }
@@ -0,0 +1,51 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.client.socket;
+
+import com.sun.jna.Platform;
+import java.io.IOException;
+import org.mariadb.jdbc.client.ConnectionHelper;
+
+public class SocketUtility {
+
+  /**
+   * Create socket according to options (java 16+). Unix domain socket use JDK native {@link
+   * java.nio.channels.SocketChannel} implementation, JNA being only needed for named pipe, or as
+   * fallback if platform doesn't support unix domain socket channel.
+   *
+   * @return Socket
+   */
+  public static SocketHandlerFunction getSocketHandler() {
+    boolean jnaAvailable;
+    try {
+      // forcing use of JNA to ensure AOT compilation
+      Platform.getOSType();
+      jnaAvailable = true;
+    } catch (Throwable cle) {
+      // jna jar's are not in classpath
+      jnaAvailable = false;
+    }
+
+    final boolean withJna = jnaAvailable;
+    return (conf, hostAddress) -> {
+      if (conf.pipe() != null && withJna) {
+        return new NamedPipeSocket(hostAddress != null ? hostAddress.host : null, conf.pipe());
+      } else if (conf.localSocket() != null) {
+        try {
+          return new UnixDomainSocketChannel(conf.localSocket());
+        } catch (UnsupportedOperationException uoe) {
+          if (!withJna) throw new IOException(uoe.getMessage(), uoe);
+        }
+        try {
+          return new UnixDomainSocket(conf.localSocket());
+        } catch (RuntimeException re) {
+          throw new IOException(re.getMessage(), re.getCause());
+        }
+      } else {
+        return ConnectionHelper.standardSocket(conf, hostAddress);
+      }
+    };
+  }
+}
@@ -0,0 +1,123 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.client.socket;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Unix domain socket using JDK 16+ native {@link SocketChannel} implementation, exposed as a {@link
+ * Socket}. Reads and writes are done without JNA call, through pooled direct buffers of bounded
+ * size (see {@link ChannelInputStream} and {@link ChannelOutputStream}), avoiding JDK temporary
+ * direct buffers sized to caller arrays. Output is sent on flush.
+ */
+class UnixDomainSocketChannel extends Socket {
+
+  private final SocketChannel channel;
+  private final UnixDomainSocketAddress address;
+  private ChannelInputStream is;
+  private ChannelOutputStream os;
+
+  /**
+   * Constructor.
+   *
+   * @param path unix socket path
+   * @throws IOException if channel cannot be opened
+   * @throws UnsupportedOperationException if platform doesn't support unix domain socket
+   */
+  UnixDomainSocketChannel(String path) throws IOException {
+    channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+    address = UnixDomainSocketAddress.of(path);
+  }
+
+  @Override
+  public boolean isConnected() {
+    return channel.isConnected();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return !channel.isOpen();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      channel.close();
+    } finally {
+      // streams give back their buffers
+      if (is != null) is.close();
+      if (os != null) os.close();
+    }
+  }
+
+  @Override
+  public void connect(SocketAddress endpoint) throws IOException {
+    connect(endpoint, 0);
+  }
+
+  @Override
+  public void connect(SocketAddress endpoint, int timeout) throws IOException {
+    channel.connect(address);
+    is = new ChannelInputStream(channel);
+    os = new ChannelOutputStream(channel);
+  }
+
+  @Override
+  public InputStream getInputStream() {
+    return is;
+  }
+
+  @Override
+  public OutputStream getOutputStream() {
+    return os;
+  }
+
+  @Override
+  public void setTcpNoDelay(boolean b) {
+    // do nothing
+  }
+
+  @Override
+  public void setKeepAlive(boolean b) {
+    // do nothing
+  }
+
+  @Override
+  public void setReceiveBufferSize(int size) {
+    // do nothing
+  }
+
+  @Override
+  public void setSendBufferSize(int size) {
+    // do nothing
+  }
+
+  @Override
+  public void setSoLinger(boolean b, int i) {
+    // do nothing
+  }
+
+  @Override
+  public void setSoTimeout(int timeout) {
+    // do nothing
+  }
+
+  @Override
+  public void shutdownInput() throws IOException {
+    channel.shutdownInput();
+  }
+
+  @Override
+  public void shutdownOutput() throws IOException {
+    channel.shutdownOutput();
+  }
+}
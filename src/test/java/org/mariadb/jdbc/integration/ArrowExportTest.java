@@ -0,0 +1,118 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.Common;
+import org.mariadb.jdbc.Statement;
+import org.mariadb.jdbc.client.result.ArrowExporter;
+
+public class ArrowExportTest extends Common {
+
+  private static BufferAllocator allocator;
+
+  @BeforeAll
+  public static void beforeAll2() {
+    allocator = new RootAllocator();
+  }
+
+  @AfterAll
+  public static void after2() {
+    allocator.close();
+  }
+
+  @Test
+  public void export() throws SQLException {
+    Assumptions.assumeTrue(isMariaDBServer());
+    export(sharedConn);
+    export(sharedConnBinary);
+  }
+
+  private void export(org.mariadb.jdbc.Connection con) throws SQLException {
+    PreparedStatement prep =
+        con.prepareStatement(
+            "SELECT CAST(seq as SIGNED) as id, seq * 1.5e0 as amount,"
+                + " IF(seq % 3 = 0, NULL, CAST(seq as SIGNED)) as val,"
+                + " CAST(seq / 4 as DECIMAL(10,2)) as dec_val, CONCAT('name', seq) as name,"
+                + " CAST(CONCAT('b', seq) as BINARY) as bin,"
+                + " DATE('2021-01-01') + INTERVAL seq DAY as dt,"
+                + " TIMESTAMP('2021-01-01 10:00:00.123456') as ts"
+                + " FROM seq_1_to_1000");
+    ResultSet rs = prep.executeQuery();
+    int total = 0;
+    int batches = 0;
+    try (ArrowExporter exporter = new ArrowExporter(rs, allocator, 300)) {
+      VectorSchemaRoot root = exporter.getVectorSchemaRoot();
+      assertEquals("id", root.getSchema().getFields().get(0).getName());
+      assertEquals(new ArrowType.Int(64, true), root.getSchema().getFields().get(0).getType());
+      assertEquals(
+          new ArrowType.Decimal(10, 2, 128), root.getSchema().getFields().get(3).getType());
+      assertEquals(ArrowType.Utf8.INSTANCE, root.getSchema().getFields().get(4).getType());
+
+      while (exporter.loadNextBatch()) {
+        batches++;
+        BigIntVector ids = (BigIntVector) root.getVector(0);
+        Float8Vector amounts = (Float8Vector) root.getVector(1);
+        BigIntVector values = (BigIntVector) root.getVector(2);
+        DecimalVector decimals = (DecimalVector) root.getVector(3);
+        VarCharVector names = (VarCharVector) root.getVector(4);
+        VarBinaryVector bins = (VarBinaryVector) root.getVector(5);
+        DateDayVector dates = (DateDayVector) root.getVector(6);
+        TimeStampMicroVector timestamps = (TimeStampMicroVector) root.getVector(7);
+        for (int i = 0; i < root.getRowCount(); i++) {
+          int seq = total + i + 1;
+          assertEquals(seq, ids.get(i));
+          assertEquals(seq * 1.5, amounts.get(i));
+          if (seq % 3 == 0) {
+            assertTrue(values.isNull(i));
+          } else {
+            assertEquals(seq, values.get(i));
+          }
+          assertEquals(
+              BigDecimal.valueOf(seq).divide(BigDecimal.valueOf(4)).setScale(2),
+              decimals.getObject(i));
+          assertEquals("name" + seq, names.getObject(i).toString());
+          assertArrayEquals(("b" + seq).getBytes(), bins.get(i));
+          assertEquals(18628 + seq, dates.get(i));
+          assertEquals(
+              LocalDateTime.of(2021, 1, 1, 10, 0, 0).toEpochSecond(ZoneOffset.UTC) * 1_000_000L
+                  + 123456,
+              timestamps.get(i));
+        }
+        total += root.getRowCount();
+      }
+    }
+    assertEquals(1000, total);
+    assertEquals(4, batches);
+  }
+
+  @Test
+  public void wrongBatchSize() throws SQLException {
+    Statement stmt = sharedConn.createStatement();
+    ResultSet rs = stmt.executeQuery("SELECT 1");
+    assertThrowsContains(
+        SQLException.class, () -> new ArrowExporter(rs, allocator, 0), "invalid batch size 0");
+  }
+}
@@ -495,6 +495,15 @@ public class ConnectionTest extends Common {
         SQLException.class,
         () -> connection.setTransactionIsolation(Connection.TRANSACTION_READ_UNCOMMITTED));
 
+    // isolation changed by query must be seen
+    try (java.sql.Connection con2 = createCon()) {
+      assertEquals(java.sql.Connection.TRANSACTION_REPEATABLE_READ, con2.getTransactionIsolation());
+      con2.createStatement().execute("SET SESSION TRANSACTION ISOLATION LEVEL READ COMMITTED");
+      assertEquals(java.sql.Connection.TRANSACTION_READ_COMMITTED, con2.getTransactionIsolation());
+      con2.createStatement().execute("SET SESSION TRANSACTION ISOLATION LEVEL SERIALIZABLE");
+      assertEquals(java.sql.Connection.TRANSACTION_SERIALIZABLE, con2.getTransactionIsolation());
+    }
+
     try (java.sql.Connection con2 = createCon()) {
       try {
         con2.setTransactionIsolation(10_000);
@@ -859,6 +868,87 @@ public class ConnectionTest extends Common {
     }
   }
 
+  @Test
+  public void testNioTransportConnection() throws Exception {
+    try (Connection connection = createCon("useNioTransport=true&socketTimeout=2000")) {
+      Statement stmt = connection.createStatement();
+      ResultSet rs = stmt.executeQuery("SELECT * FROM mysql.user");
+      int i = 0;
+      while (rs.next()) i++;
+      assertTrue(i > 0);
+      // read timeout is handled by channel selector
+      assertThrows(SQLException.class, () -> stmt.execute("SELECT SLEEP(5)"));
+    }
+  }
+
+  @Test
+  public void executeAsync() throws Exception {
+    try (org.mariadb.jdbc.Connection con = createCon()) {
+      java.util.List<java.util.concurrent.CompletableFuture<ResultSet>> futures =
+          new java.util.ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        futures.add(con.executeQueryAsync("SELECT ?, SLEEP(0.01)", i));
+      }
+      java.util.concurrent.CompletableFuture<ResultSet> wrong =
+          con.executeQueryAsync("SELECT * FROM wrongTable");
+      java.util.concurrent.CompletableFuture<Long> update = con.executeUpdateAsync("DO ?", 1);
+
+      // synchronous command read pending responses first
+      Statement stmt = con.createStatement();
+      ResultSet rs = stmt.executeQuery("SELECT 100");
+      assertTrue(rs.next());
+      assertEquals(100, rs.getInt(1));
+
+      // futures are completed outside connection lock, by reader thread
+      for (int i = 0; i < 20; i++) {
+        rs = futures.get(i).get(5, java.util.concurrent.TimeUnit.SECONDS);
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+      }
+      java.util.concurrent.ExecutionException e =
+          assertThrows(java.util.concurrent.ExecutionException.class, wrong::get);
+      assertTrue(e.getCause() instanceof SQLException);
+      assertEquals(0L, update.get());
+
+      // responses are read without any synchronous command
+      rs = con.executeQueryAsync("SELECT 'a'").get(5, java.util.concurrent.TimeUnit.SECONDS);
+      assertTrue(rs.next());
+      assertEquals("a", rs.getString(1));
+    }
+  }
+
+  @Test
+  public void executeAsyncCallbackReuseConnection() throws Exception {
+    try (org.mariadb.jdbc.Connection con = createCon()) {
+      // dependent stage blocking on commands of the same connection
+      java.util.function.Function<ResultSet, Integer> callback =
+          rs -> {
+            try {
+              ResultSet rs2 = con.executeQueryAsync("SELECT 2").join();
+              rs2.next();
+              ResultSet rs3 = con.createStatement().executeQuery("SELECT 3");
+              rs3.next();
+              rs.next();
+              return rs.getInt(1) + rs2.getInt(1) + rs3.getInt(1);
+            } catch (SQLException e) {
+              throw new java.util.concurrent.CompletionException(e);
+            }
+          };
+
+      // response read by reader thread
+      java.util.concurrent.CompletableFuture<Integer> res =
+          con.executeQueryAsync("SELECT 1").thenApply(callback);
+      assertEquals(6, res.get(5, java.util.concurrent.TimeUnit.SECONDS));
+
+      // response read by a synchronous command, holding connection lock
+      res = con.executeQueryAsync("SELECT 1, SLEEP(0.1)").thenApply(callback);
+      ResultSet rs = con.createStatement().executeQuery("SELECT 100");
+      assertTrue(rs.next());
+      assertEquals(100, rs.getInt(1));
+      assertEquals(6, res.get(5, java.util.concurrent.TimeUnit.SECONDS));
+    }
+  }
+
   @Test
   public void useNoDatabase() throws SQLException {
     try (Connection con = createCon()) {
@@ -1052,4 +1142,13 @@ public class ConnectionTest extends Common {
       con.isValid(1);
     }
   }
+
+  @Test
+  public void timezoneWithFailingInitialization() {
+    // failure not related to time zone is not reported as a time zone failure
+    assertThrowsContains(
+        SQLException.class,
+        () -> createCon("timezone=GMT-8&sessionVariables=wrong_variable=1"),
+        "Initialization command fail");
+  }
 }
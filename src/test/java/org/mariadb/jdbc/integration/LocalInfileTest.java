@@ -154,6 +154,51 @@ public class LocalInfileTest extends Common {
     }
   }
 
+  @Test
+  public void loadDataInputStream() throws Exception {
+    Assumptions.assumeTrue(
+        (isMariaDBServer() || !minVersion(8, 0, 3))
+            && !"skysql".equals(System.getenv("srv"))
+            && !"skysql-ha".equals(System.getenv("srv")));
+    try (org.mariadb.jdbc.Connection con = createCon("allowLocalInfile")) {
+      org.mariadb.jdbc.Statement stmt = con.createStatement();
+      stmt.setLocalInfileInputStream(
+          new ByteArrayInputStream("1\thello\n2\tworld\n".getBytes("UTF-8")));
+      stmt.execute(
+          "LOAD DATA LOCAL INFILE 'dummy' INTO TABLE LocalInfileInputStreamTest (id, test)");
+
+      // connection provider is used when no stream is set on statement
+      con.setLocalInfileInputStreamProvider(
+          fileName -> {
+            assertEquals("dummy2", fileName);
+            return new ByteArrayInputStream("3\tthird\n".getBytes());
+          });
+      stmt.execute(
+          "LOAD DATA LOCAL INFILE 'dummy2' INTO TABLE LocalInfileInputStreamTest (id, test)");
+      con.setLocalInfileInputStreamProvider(null);
+
+      ResultSet rs = stmt.executeQuery("SELECT * FROM LocalInfileInputStreamTest ORDER BY id");
+      assertTrue(rs.next());
+      assertEquals(1, rs.getInt(1));
+      assertEquals("hello", rs.getString(2));
+      assertTrue(rs.next());
+      assertEquals(2, rs.getInt(1));
+      assertEquals("world", rs.getString(2));
+      assertTrue(rs.next());
+      assertEquals(3, rs.getInt(1));
+      assertEquals("third", rs.getString(2));
+      assertFalse(rs.next());
+
+      // stream is only used once
+      assertThrowsContains(
+          SQLException.class,
+          () ->
+              stmt.execute(
+                  "LOAD DATA LOCAL INFILE 'dummy' INTO TABLE LocalInfileInputStreamTest (id, test)"),
+          "Could not send file : dummy");
+    }
+  }
+
   @Test
   public void loadDataInfileEmpty() throws SQLException, IOException {
     Assumptions.assumeTrue(
@@ -7,7 +7,11 @@ package org.mariadb.jdbc.integration;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
 import java.sql.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.mariadb.jdbc.*;
@@ -182,6 +186,52 @@ public class MultiHostTest extends Common {
     }
   }
 
+  @Test
+  public void parallelConnect() throws Exception {
+    Assumptions.assumeTrue(
+        !"skysql".equals(System.getenv("srv")) && !"skysql-ha".equals(System.getenv("srv")));
+
+    Configuration conf = Configuration.parse(mDefUrl);
+    HostAddress hostAddress = conf.addresses().get(0);
+
+    // first host accepts connections, but never answers
+    try (ServerSocket blackhole = new ServerSocket(0)) {
+      String url =
+          mDefUrl.replaceAll(
+              "//([^/]*)/",
+              String.format(
+                  "//address=(host=localhost)(port=%s)(type=master),address=(host=%s)(port=%s)(type=master)/",
+                  blackhole.getLocalPort(), hostAddress.host, hostAddress.port));
+      url = url.replaceAll("jdbc:mariadb:", "jdbc:mariadb:sequential:");
+      if (conf.sslMode() == SslMode.VERIFY_FULL) {
+        url = url.replaceAll("sslMode=verify-full", "sslMode=verify-ca");
+      }
+
+      // pending attempt must be cancelled, even without socket timeout
+      CompletableFuture<Integer> blackholeRead =
+          CompletableFuture.supplyAsync(
+              () -> {
+                try (Socket socket = blackhole.accept()) {
+                  return socket.getInputStream().read();
+                } catch (IOException e) {
+                  return -2;
+                }
+              });
+
+      long start = System.currentTimeMillis();
+      try (Connection con =
+          (Connection)
+              DriverManager.getConnection(
+                  url + "parallelConnectDelay=50&deniedListTimeout=300&retriesAllDown=1")) {
+        assertTrue(System.currentTimeMillis() - start < 4000);
+        assertEquals(hostAddress.port, con.getClient().getHostAddress().port);
+        con.isValid(1);
+        // socket of losing attempt has been closed
+        assertEquals(-1, blackholeRead.get(5, TimeUnit.SECONDS));
+      }
+    }
+  }
+
   @Test
   public void masterStreamingFailover() throws Exception {
     Assumptions.assumeTrue(
@@ -151,6 +151,30 @@ public class PoolDataSourceTest extends Common {
     }
   }
 
+  @Test
+  public void testResetTransactionIsolationTracking() throws SQLException {
+    Assumptions.assumeTrue(isMariaDBServer() && minVersion(10, 3, 13));
+    try (MariaDbPoolDataSource pool =
+        new MariaDbPoolDataSource(mDefUrl + "&maxPoolSize=1&useResetConnection=true")) {
+      try (Connection connection = pool.getConnection()) {
+        org.mariadb.jdbc.Connection con = connection.unwrap(org.mariadb.jdbc.Connection.class);
+        Assumptions.assumeTrue(con.getContext().isTransactionIsolationTracked());
+        connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+      }
+
+      try (Connection connection = pool.getConnection()) {
+        org.mariadb.jdbc.Connection con = connection.unwrap(org.mariadb.jdbc.Connection.class);
+        // tracking is set again after reset, with configured isolation
+        assertTrue(con.getContext().isTransactionIsolationTracked());
+        assertEquals(Connection.TRANSACTION_REPEATABLE_READ, connection.getTransactionIsolation());
+        connection
+            .createStatement()
+            .execute("SET SESSION TRANSACTION ISOLATION LEVEL READ COMMITTED");
+        assertEquals(Connection.TRANSACTION_READ_COMMITTED, connection.getTransactionIsolation());
+      }
+    }
+  }
+
   private long getNowTime(Statement statement) throws SQLException {
     ResultSet rs = statement.executeQuery("SELECT NOW()");
     assertTrue(rs.next());
@@ -257,6 +257,39 @@ public class PreparedStatementTest extends Common {
     }
   }
 
+  @Test
+  public void cachedMetadataSharedByStatements() throws SQLException {
+    try (Connection con = createCon("useServerPrepStmts=true&cachePrepStmts=true")) {
+      Statement stmt = con.createStatement();
+      stmt.execute("CREATE TEMPORARY TABLE prepareMeta (t1 int, t2 varchar(10))");
+      stmt.execute("INSERT INTO prepareMeta VALUES (1, 'a'), (2, 'b')");
+      String sql = "SELECT * FROM prepareMeta WHERE t1 >= ?";
+
+      // second statement use cached prepare, so server might skip metadata
+      for (int i = 0; i < 2; i++) {
+        try (PreparedStatement prep = con.prepareStatement(sql)) {
+          prep.setInt(1, 2);
+          ResultSet rs = prep.executeQuery();
+          assertEquals(2, rs.getMetaData().getColumnCount());
+          assertEquals("t2", rs.getMetaData().getColumnName(2));
+          assertTrue(rs.next());
+          assertEquals("b", rs.getString("t2"));
+          assertFalse(rs.next());
+        }
+      }
+
+      // metadata change must be seen by cached prepare
+      stmt.execute("ALTER TABLE prepareMeta ADD COLUMN t3 int default 3");
+      try (PreparedStatement prep = con.prepareStatement(sql)) {
+        prep.setInt(1, 2);
+        ResultSet rs = prep.executeQuery();
+        assertEquals(3, rs.getMetaData().getColumnCount());
+        assertTrue(rs.next());
+        assertEquals(3, rs.getInt("t3"));
+      }
+    }
+  }
+
   @Test
   public void clearParameters() throws Exception {
     try (org.mariadb.jdbc.Connection con = createCon("&useServerPrepStmts=false")) {
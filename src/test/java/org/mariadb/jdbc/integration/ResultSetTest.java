@@ -10,14 +10,22 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mariadb.jdbc.Common;
 import org.mariadb.jdbc.Statement;
+import org.mariadb.jdbc.client.result.ColumnBuffer;
+import org.mariadb.jdbc.client.result.ColumnarResultSet;
+import org.mariadb.jdbc.client.result.RowSubscription;
 
 public class ResultSetTest extends Common {
 
@@ -37,6 +45,169 @@ public class ResultSetTest extends Common {
     stmt.execute("INSERT INTO resultsettest(t2) values (1),(2),(3),(4),(5),(6),(7),(8)");
   }
 
+  @Test
+  public void rowSubscription() throws SQLException {
+    Statement stmt = sharedConn.createStatement();
+    List<Integer> values = new ArrayList<>();
+    AtomicBoolean completed = new AtomicBoolean();
+    RowSubscription subscription =
+        new RowSubscription(stmt, "SELECT t2 FROM resultsettest ORDER BY t1") {
+          @Override
+          protected void onNext(ResultSet row) {
+            try {
+              values.add(row.getInt(1));
+            } catch (SQLException e) {
+              throw new IllegalStateException(e);
+            }
+          }
+
+          @Override
+          protected void onError(Throwable throwable) {
+            fail(throwable);
+          }
+
+          @Override
+          protected void onComplete() {
+            completed.set(true);
+          }
+        };
+
+    // rows are only emitted on demand
+    subscription.request(3);
+    assertEquals(3, values.size());
+    subscription.request(2);
+    assertEquals(5, values.size());
+    subscription.request(Long.MAX_VALUE);
+    assertEquals(8, values.size());
+    assertTrue(completed.get());
+    for (int i = 0; i < 8; i++) assertEquals(i + 1, values.get(i));
+
+    // cancellation skip remaining rows, connection stays usable
+    values.clear();
+    completed.set(false);
+    RowSubscription cancelled =
+        new RowSubscription(
+            stmt,
+            "SELECT a.t1 FROM resultsettest a, resultsettest b, resultsettest c, resultsettest d") {
+          @Override
+          protected void onNext(ResultSet row) {
+            values.add(0);
+          }
+
+          @Override
+          protected void onError(Throwable throwable) {
+            fail(throwable);
+          }
+
+          @Override
+          protected void onComplete() {
+            completed.set(true);
+          }
+        };
+    cancelled.request(10);
+    cancelled.cancel();
+    cancelled.request(10);
+    assertEquals(10, values.size());
+    assertFalse(completed.get());
+    ResultSet rs = stmt.executeQuery("SELECT 1");
+    assertTrue(rs.next());
+  }
+
+  @Test
+  public void scrollMultipleSlabs() throws SQLException {
+    Assumptions.assumeTrue(isMariaDBServer());
+    scrollMultipleSlabs(0);
+    scrollMultipleSlabs(100);
+  }
+
+  private void scrollMultipleSlabs(int fetchSize) throws SQLException {
+    Statement stmt =
+        sharedConn.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+    stmt.setFetchSize(fetchSize);
+    // rows of varying size, with some rows bigger than a slab
+    ResultSet rs =
+        stmt.executeQuery(
+            "SELECT seq, REPEAT('a', IF(seq % 5000 = 0, 300000, seq % 100)) FROM seq_1_to_20000");
+    for (int i = 1; i <= 20000; i++) {
+      assertTrue(rs.next());
+      assertEquals(i, rs.getInt(1));
+      assertEquals(i % 5000 == 0 ? 300000 : i % 100, rs.getString(2).length());
+    }
+    assertFalse(rs.next());
+
+    assertTrue(rs.absolute(5000));
+    assertEquals(5000, rs.getInt(1));
+    assertEquals(300000, rs.getString(2).length());
+    assertTrue(rs.previous());
+    assertEquals(4999, rs.getInt(1));
+    assertEquals(99, rs.getString(2).length());
+    assertTrue(rs.absolute(1));
+    assertEquals(1, rs.getInt(1));
+    assertTrue(rs.last());
+    assertEquals(20000, rs.getInt(1));
+    assertEquals(300000, rs.getString(2).length());
+  }
+
+  @Test
+  public void fetchColumns() throws SQLException {
+    Assumptions.assumeTrue(isMariaDBServer());
+    fetchColumns(sharedConn);
+    fetchColumns(sharedConnBinary);
+  }
+
+  private void fetchColumns(org.mariadb.jdbc.Connection con) throws SQLException {
+    PreparedStatement prep =
+        con.prepareStatement(
+            "SELECT seq, seq * 1.5, IF(seq % 3 = 0, NULL, seq), seq % 2 = 0 FROM seq_1_to_1000");
+    ResultSet rs = prep.executeQuery();
+    ColumnarResultSet columnar = rs.unwrap(ColumnarResultSet.class);
+
+    long[] ids = new long[300];
+    double[] amounts = new double[300];
+    int[] values = new int[300];
+    long[] valueNulls = new long[5];
+    boolean[] evens = new boolean[300];
+    int total = 0;
+    int rows;
+    while ((rows =
+            columnar.fetchColumns(
+                300,
+                ColumnBuffer.of(1, ids, null),
+                ColumnBuffer.of(2, amounts, null),
+                ColumnBuffer.of(3, values, valueNulls),
+                ColumnBuffer.of(4, evens, null)))
+        > 0) {
+      BitSet nulls = BitSet.valueOf(valueNulls);
+      for (int i = 0; i < rows; i++) {
+        int seq = total + i + 1;
+        assertEquals(seq, ids[i]);
+        assertEquals(seq * 1.5, amounts[i]);
+        assertEquals(seq % 3 == 0, nulls.get(i));
+        assertEquals(seq % 3 == 0 ? 0 : seq, values[i]);
+        assertEquals(seq % 2 == 0, evens[i]);
+      }
+      total += rows;
+      // result-set is positioned on last decoded row
+      assertEquals(total, rs.getLong(1));
+    }
+    assertEquals(1000, total);
+
+    rs = prep.executeQuery();
+    ColumnarResultSet columnar2 = rs.unwrap(ColumnarResultSet.class);
+    assertThrowsContains(
+        SQLException.class,
+        () -> columnar2.fetchColumns(10, ColumnBuffer.of(5, ids, null)),
+        "Wrong index position. Is 5 but must be in 1-4 range");
+    assertThrowsContains(
+        SQLException.class,
+        () -> columnar2.fetchColumns(400, ColumnBuffer.of(1, ids, null)),
+        "Array for column 1 has length 300, but 400 rows are requested");
+    assertThrowsContains(
+        SQLException.class,
+        () -> columnar2.fetchColumns(300, ColumnBuffer.of(3, values, new long[1])),
+        "Null bitmap for column 3 can only contain 64 rows, but 300 rows are requested");
+  }
+
   @Test
   public void nonUpdatableFields() throws SQLException {
     Statement stmt = sharedConn.createStatement();
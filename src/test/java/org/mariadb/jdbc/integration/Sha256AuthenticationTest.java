@@ -4,11 +4,17 @@
 
 package org.mariadb.jdbc.integration;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.sql.*;
 import org.junit.jupiter.api.*;
 import org.mariadb.jdbc.Common;
+import org.mariadb.jdbc.plugin.authentication.standard.CachingSha2PasswordPlugin;
 
 public class Sha256AuthenticationTest extends Common {
 
@@ -171,6 +177,31 @@ public class Sha256AuthenticationTest extends Common {
     }
   }
 
+  @Test
+  public void cachingSha256CachedPublicKey() throws Exception {
+    Assumptions.assumeTrue(
+        !isWindows && !isMariaDBServer() && rsaPublicKey != null && minVersion(8, 0, 0));
+    CachingSha2PasswordPlugin.clearPublicKeyCache();
+    File tempFile = File.createTempFile("public", ".key");
+    Files.copy(Paths.get(rsaPublicKey), tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    String url =
+        "user=cachingSha256User&password=!Passw0rd3Works&serverRsaPublicKeyFile="
+            + tempFile.getCanonicalPath().replace("\\", "/");
+
+    sharedConn.createStatement().execute("FLUSH PRIVILEGES"); // reset cache
+    try (Connection con = createCon(url)) {
+      con.isValid(1);
+    }
+
+    // public key is not read again
+    assertTrue(tempFile.delete());
+    sharedConn.createStatement().execute("FLUSH PRIVILEGES"); // reset cache
+    try (Connection con = createCon(url)) {
+      con.isValid(1);
+    }
+    CachingSha2PasswordPlugin.clearPublicKeyCache();
+  }
+
   @Test
   public void cachingSha256PluginTestWithoutServerRsaKey() throws Exception {
     Assumptions.assumeTrue(!isWindows && minVersion(8, 0, 0));
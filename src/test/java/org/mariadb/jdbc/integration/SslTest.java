@@ -14,6 +14,8 @@ import org.junit.jupiter.api.*;
 import org.mariadb.jdbc.*;
 import org.mariadb.jdbc.Connection;
 import org.mariadb.jdbc.Statement;
+import org.mariadb.jdbc.client.tls.DefaultTlsSocketPlugin;
+import org.mariadb.jdbc.client.tls.TlsStatistics;
 import org.mariadb.jdbc.integration.tools.TcpProxy;
 
 @DisplayName("SSL tests")
@@ -93,6 +95,27 @@ public class SslTest extends Common {
     try (Connection con = createCon("sslMode=trust&useReadAheadInput=false", sslPort)) {
       assertNotNull(getSslVersion(con));
     }
+    try (Connection con = createCon("sslMode=trust&useNioTransport=true", sslPort)) {
+      assertNotNull(getSslVersion(con));
+    }
+  }
+
+  @Test
+  public void cacheSslContext() throws SQLException {
+    TlsStatistics.reset();
+    for (int i = 0; i < 3; i++) {
+      try (Connection con = createCon("sslMode=trust&cacheSslContext=true", sslPort)) {
+        assertNotNull(getSslVersion(con));
+      }
+    }
+    try (Connection con =
+        createCon("sslMode=trust&cacheSslContext=true&useNioTransport=true", sslPort)) {
+      assertNotNull(getSslVersion(con));
+    }
+    assertTrue(TlsStatistics.getHandshakes() >= 4);
+    assertTrue(TlsStatistics.getResumedHandshakes() <= TlsStatistics.getHandshakes());
+    assertTrue(TlsStatistics.getHandshakeTimeNanos() > 0);
+    DefaultTlsSocketPlugin.clearSslContextCache();
   }
 
   @Test
@@ -622,6 +622,92 @@ public class StatementTest extends Common {
     assertEquals(1, rs.getInt(1));
   }
 
+  @Test
+  public void fetchPrefetch() throws SQLException {
+    Assumptions.assumeTrue(isMariaDBServer());
+    try (Connection con = createCon("streamingPrefetch=true")) {
+      Statement stmt = con.createStatement();
+      stmt.setFetchSize(10);
+      ResultSet rs = stmt.executeQuery("select seq, REPEAT('a', seq % 50) FROM seq_1_to_1000");
+      for (int i = 1; i <= 500; i++) {
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+        assertEquals(i % 50, rs.getString(2).length());
+      }
+
+      // other command while next batch is being read
+      Statement stmt2 = con.createStatement();
+      ResultSet rs2 = stmt2.executeQuery("SELECT 1");
+      assertTrue(rs2.next());
+      assertEquals(1, rs2.getInt(1));
+
+      for (int i = 501; i <= 1000; i++) {
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+        assertEquals(i % 50, rs.getString(2).length());
+      }
+      assertFalse(rs.next());
+
+      // close with remaining rows
+      rs = stmt.executeQuery("select * FROM seq_1_to_1000");
+      for (int i = 1; i <= 15; i++) {
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+      }
+      rs.close();
+
+      // max rows
+      stmt.setMaxRows(25);
+      rs = stmt.executeQuery("select * FROM seq_1_to_1000");
+      for (int i = 1; i <= 25; i++) {
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+      }
+      assertFalse(rs.next());
+    }
+  }
+
+  @Test
+  public void fetchPrefetchPendingOtherCommand() throws Exception {
+    Assumptions.assumeTrue(isMariaDBServer());
+    // slow rows, so prefetch of next batch is still reading socket when other commands are sent
+    String sql = "SELECT seq, REPEAT('a', 1000), SLEEP(0.005) FROM seq_1_to_200";
+    try (Connection con = createCon("streamingPrefetch=true")) {
+      Statement stmt = con.createStatement();
+      stmt.setFetchSize(50);
+      Statement stmt2 = con.createStatement();
+
+      ResultSet rs = stmt.executeQuery(sql);
+      ResultSet rs2 = stmt2.executeQuery("SELECT 1");
+      assertTrue(rs2.next());
+      assertEquals(1, rs2.getInt(1));
+      assertStreamingRows(rs);
+
+      // pipelined batch
+      rs = stmt.executeQuery(sql);
+      stmt2.addBatch("DO 1");
+      stmt2.addBatch("DO 2");
+      assertArrayEquals(new int[] {0, 0}, stmt2.executeBatch());
+      assertStreamingRows(rs);
+
+      // asynchronous command
+      rs = stmt.executeQuery(sql);
+      rs2 = con.executeQueryAsync("SELECT 2").get(5, java.util.concurrent.TimeUnit.SECONDS);
+      assertTrue(rs2.next());
+      assertEquals(2, rs2.getInt(1));
+      assertStreamingRows(rs);
+    }
+  }
+
+  private static void assertStreamingRows(ResultSet rs) throws SQLException {
+    for (int i = 1; i <= 200; i++) {
+      assertTrue(rs.next());
+      assertEquals(i, rs.getInt(1));
+      assertEquals(1000, rs.getString(2).length());
+    }
+    assertFalse(rs.next());
+  }
+
   @Test
   public void fetchClose() throws SQLException {
     Assumptions.assumeTrue(isMariaDBServer());
@@ -0,0 +1,78 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.unit.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.channels.Pipe;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.client.socket.ChannelInputStream;
+import org.mariadb.jdbc.client.socket.ChannelOutputStream;
+import org.mariadb.jdbc.client.socket.DirectBufferPool;
+
+public class ChannelStreamTest {
+
+  private interface Operation {
+    void run() throws IOException;
+  }
+
+  private static Throwable closeDuringOperation(Operation operation, Operation close)
+      throws Exception {
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    Thread thread =
+        new Thread(
+            () -> {
+              try {
+                operation.run();
+              } catch (Throwable t) {
+                error.set(t);
+              }
+            });
+    thread.start();
+    // let operation block on channel
+    Thread.sleep(200);
+    close.run();
+    thread.join(5000);
+    assertFalse(thread.isAlive());
+    return error.get();
+  }
+
+  @Test
+  public void closeDuringRead() throws Exception {
+    Pipe pipe = Pipe.open();
+    ChannelInputStream in = new ChannelInputStream(pipe.source());
+    int pooled = DirectBufferPool.pooled();
+
+    Throwable error = closeDuringOperation(() -> in.read(new byte[10], 0, 10), in::close);
+    assertTrue(error instanceof IOException);
+    // buffer is given back once, by reading thread
+    assertEquals(pooled + 1, DirectBufferPool.pooled());
+
+    assertThrows(IOException.class, in::read);
+    in.close();
+    assertEquals(pooled + 1, DirectBufferPool.pooled());
+    pipe.sink().close();
+  }
+
+  @Test
+  public void closeDuringWrite() throws Exception {
+    Pipe pipe = Pipe.open();
+    ChannelOutputStream out = new ChannelOutputStream(pipe.sink());
+    int pooled = DirectBufferPool.pooled();
+
+    // more than pipe capacity, so write blocks
+    byte[] data = new byte[4 * 1024 * 1024];
+    Throwable error = closeDuringOperation(() -> out.write(data, 0, data.length), out::close);
+    assertTrue(error instanceof IOException);
+    assertEquals(pooled + 1, DirectBufferPool.pooled());
+
+    assertThrows(IOException.class, () -> out.write(1));
+    out.close();
+    assertEquals(pooled + 1, DirectBufferPool.pooled());
+    pipe.source().close();
+  }
+}
@@ -0,0 +1,64 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.unit.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.client.socket.CompressInputStream;
+import org.mariadb.jdbc.client.socket.CompressOutputStream;
+import org.mariadb.jdbc.util.MutableInt;
+
+public class CompressStreamTest {
+
+  private static byte[] roundTrip(byte[] data, ByteArrayOutputStream socket) throws Exception {
+    CompressOutputStream out = new CompressOutputStream(socket, new MutableInt(), 6);
+    out.write(data, 0, data.length);
+    out.flush();
+    out.close();
+
+    CompressInputStream in =
+        new CompressInputStream(new ByteArrayInputStream(socket.toByteArray()), new MutableInt());
+    byte[] result = new byte[data.length];
+    int off = 0;
+    while (off < data.length) {
+      off += in.read(result, off, data.length - off);
+    }
+    in.close();
+    return result;
+  }
+
+  @Test
+  public void compressibleData() throws Exception {
+    byte[] data = new byte[200_000];
+    for (int i = 0; i < data.length; i++) data[i] = (byte) ('a' + (i % 10));
+    ByteArrayOutputStream socket = new ByteArrayOutputStream();
+    assertArrayEquals(data, roundTrip(data, socket));
+    assertTrue(socket.size() < data.length / 10);
+  }
+
+  @Test
+  public void notCompressibleData() throws Exception {
+    byte[] data = new byte[200_000];
+    new Random(0).nextBytes(data);
+    ByteArrayOutputStream socket = new ByteArrayOutputStream();
+    assertArrayEquals(data, roundTrip(data, socket));
+    // sent without compression: only compression headers are added
+    assertTrue(socket.size() < data.length + 100);
+  }
+
+  @Test
+  public void mixedPacketSize() throws Exception {
+    for (int size : new int[] {10, 2_000, 50_000, 10, 70_000}) {
+      byte[] data = new byte[size];
+      Arrays.fill(data, (byte) 'b');
+      assertArrayEquals(data, roundTrip(data, new ByteArrayOutputStream()));
+    }
+  }
+}
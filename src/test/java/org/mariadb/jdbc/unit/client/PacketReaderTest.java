@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.unit.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.Configuration;
+import org.mariadb.jdbc.client.ReadableByteBuf;
+import org.mariadb.jdbc.client.socket.PacketReader;
+import org.mariadb.jdbc.util.MutableInt;
+
+public class PacketReaderTest {
+
+  private static byte[] packets(int number, int packetLength) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int i = 0; i < number; i++) {
+      out.write(packetLength);
+      out.write(packetLength >> 8);
+      out.write(packetLength >> 16);
+      out.write(i);
+      for (int j = 0; j < packetLength; j++) out.write(i);
+    }
+    return out.toByteArray();
+  }
+
+  @Test
+  public void viewsStayValid() throws Exception {
+    int number = 1000;
+    int packetLength = 100;
+    PacketReader reader =
+        new PacketReader(
+            new ByteArrayInputStream(packets(number, packetLength)),
+            Configuration.parse("jdbc:mariadb://localhost/"),
+            new MutableInt());
+
+    byte[][] bufs = new byte[number][];
+    int[] offsets = new int[number];
+    for (int i = 0; i < number; i++) {
+      ReadableByteBuf buf = reader.readPacketView(false);
+      assertEquals(packetLength, buf.readableBytes());
+      bufs[i] = buf.buf();
+      offsets[i] = buf.pos();
+    }
+
+    // receive buffer has been filled many time, previous views must not have been overwritten
+    for (int i = 0; i < number; i++) {
+      for (int j = 0; j < packetLength; j++) {
+        assertEquals((byte) i, bufs[i][offsets[i] + j]);
+      }
+    }
+    assertThrows(EOFException.class, () -> reader.readPacketView(false));
+  }
+
+  @Test
+  public void mixedPacketSize() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(packets(3, 10));
+    out.write(packets(1, 40000));
+    out.write(packets(3, 10));
+    PacketReader reader =
+        new PacketReader(
+            new ByteArrayInputStream(out.toByteArray()),
+            Configuration.parse("jdbc:mariadb://localhost/"),
+            new MutableInt());
+    for (int i = 0; i < 3; i++) assertEquals(10, reader.readPacket(true).readableBytes());
+    ReadableByteBuf big = reader.readPacket(true);
+    assertEquals(40000, big.readableBytes());
+    assertEquals(40000, big.buf().length);
+    for (int i = 0; i < 3; i++) {
+      ReadableByteBuf buf = reader.readPacketView(false);
+      assertEquals(10, buf.readableBytes());
+      assertEquals((byte) i, buf.getByte());
+    }
+  }
+
+  @Test
+  public void multiPacket() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(packets(1, 0xffffff));
+    out.write(packets(1, 0xffffff));
+    out.write(packets(1, 10));
+    PacketReader reader =
+        new PacketReader(
+            new ByteArrayInputStream(out.toByteArray()),
+            Configuration.parse("jdbc:mariadb://localhost/"),
+            new MutableInt());
+    ReadableByteBuf buf = reader.readPacket(false);
+    assertEquals(2 * 0xffffff + 10, buf.readableBytes());
+    assertEquals(2 * 0xffffff + 10, buf.buf().length);
+    assertEquals(0, buf.getByte(0xffffff - 1));
+    assertEquals(0, buf.getByte(0xffffff));
+    assertEquals(0, buf.getByte(2 * 0xffffff + 9));
+  }
+}
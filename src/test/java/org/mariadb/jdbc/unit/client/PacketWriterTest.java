@@ -0,0 +1,129 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.unit.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.client.socket.PacketWriter;
+import org.mariadb.jdbc.util.MutableInt;
+
+public class PacketWriterTest {
+
+  private static final int MAX_PACKET_LENGTH = 0xffffff;
+  private static final byte[] COMMAND_HEADER = {0x18, 1, 2, 3, 4, 5, 6};
+
+  private static byte[] data(int length) {
+    byte[] data = new byte[length];
+    for (int i = 0; i < length; i++) data[i] = (byte) (i % 251);
+    return data;
+  }
+
+  /** Expected packets for a command, splitting payload in packets of maximum size. */
+  private static byte[] packets(byte[] data) {
+    byte[] payload = new byte[COMMAND_HEADER.length + data.length];
+    System.arraycopy(COMMAND_HEADER, 0, payload, 0, COMMAND_HEADER.length);
+    System.arraycopy(data, 0, payload, COMMAND_HEADER.length, data.length);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int off = 0;
+    int sequence = 0;
+    int packetLength;
+    do {
+      packetLength = Math.min(MAX_PACKET_LENGTH, payload.length - off);
+      out.write(packetLength);
+      out.write(packetLength >> 8);
+      out.write(packetLength >> 16);
+      out.write(sequence++);
+      out.write(payload, off, packetLength);
+      off += packetLength;
+    } while (packetLength == MAX_PACKET_LENGTH);
+    return out.toByteArray();
+  }
+
+  private static PacketWriter writer(ByteArrayOutputStream out) {
+    PacketWriter writer = new PacketWriter(out, 1024, new MutableInt(), new MutableInt());
+    writer.initPacket();
+    return writer;
+  }
+
+  @Test
+  public void writeBytes() throws Exception {
+    for (int length : new int[] {10, 200_000, MAX_PACKET_LENGTH - 7, 2 * MAX_PACKET_LENGTH + 3}) {
+      byte[] data = data(length);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      PacketWriter writer = writer(out);
+      writer.writeBytes(COMMAND_HEADER);
+      writer.writeBytes(data, 0, length);
+      writer.flush();
+      assertArrayEquals(packets(data), out.toByteArray(), "length " + length);
+    }
+  }
+
+  @Test
+  public void writeBytesAndFlush() throws Exception {
+    for (int length :
+        new int[] {
+          10, 200_000, MAX_PACKET_LENGTH - 7, MAX_PACKET_LENGTH, 2 * MAX_PACKET_LENGTH - 7
+        }) {
+      byte[] data = data(length);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      PacketWriter writer = writer(out);
+      writer.writeBytes(COMMAND_HEADER);
+      writer.writeBytesAndFlush(data, 0, length);
+      assertArrayEquals(packets(data), out.toByteArray(), "length " + length);
+    }
+  }
+
+  @Test
+  public void writeStream() throws Exception {
+    for (int length : new int[] {10, 200_000, MAX_PACKET_LENGTH - 7, MAX_PACKET_LENGTH + 10}) {
+      byte[] data = data(length);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      PacketWriter writer = writer(out);
+      writer.writeBytes(COMMAND_HEADER);
+      writer.writeStream(new ByteArrayInputStream(data), null);
+      writer.flush();
+      assertArrayEquals(packets(data), out.toByteArray(), "length " + length);
+    }
+
+    byte[] data = data(100_000);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PacketWriter writer = writer(out);
+    writer.writeBytes(COMMAND_HEADER);
+    writer.writeStream(new ByteArrayInputStream(data), 50_000L);
+    writer.flush();
+    byte[] truncated = new byte[50_000];
+    System.arraycopy(data, 0, truncated, 0, truncated.length);
+    assertArrayEquals(packets(truncated), out.toByteArray());
+  }
+
+  @Test
+  public void writeLocalInfile() throws Exception {
+    byte[] data = data(3_000_000);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PacketWriter writer = writer(out);
+    writer.writeLocalInfile(new ByteArrayInputStream(data));
+
+    // file content is sent in packets of at most 1M, followed by an empty packet
+    byte[] res = out.toByteArray();
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    int off = 0;
+    int sequence = 0;
+    int packetLength;
+    do {
+      packetLength =
+          (res[off] & 0xff) + ((res[off + 1] & 0xff) << 8) + ((res[off + 2] & 0xff) << 16);
+      assertTrue(packetLength <= 1024 * 1024);
+      assertEquals((byte) sequence++, res[off + 3]);
+      content.write(res, off + 4, packetLength);
+      off += 4 + packetLength;
+    } while (packetLength > 0);
+    assertEquals(res.length, off);
+    assertArrayEquals(data, content.toByteArray());
+  }
+}
@@ -0,0 +1,106 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.unit.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.HostAddress;
+import org.mariadb.jdbc.client.ServerProfile;
+import org.mariadb.jdbc.client.ServerVersion;
+import org.mariadb.jdbc.client.context.Context;
+
+public class ServerProfileTest {
+
+  private static Context context(String version, long capabilities) {
+    ServerVersion serverVersion = new ServerVersion(version, true);
+    return (Context)
+        Proxy.newProxyInstance(
+            Context.class.getClassLoader(),
+            new Class<?>[] {Context.class},
+            (proxy, method, args) -> {
+              switch (method.getName()) {
+                case "getVersion":
+                  return serverVersion;
+                case "getServerCapabilities":
+                  return capabilities;
+                default:
+                  throw new UnsupportedOperationException(method.getName());
+              }
+            });
+  }
+
+  private static ServerProfile.Key key(HostAddress host, String sessionVariables) {
+    return new ServerProfile.Key(host, "user", false, sessionVariables);
+  }
+
+  @Test
+  public void cache() {
+    ServerProfile.clear();
+    HostAddress host = HostAddress.from("localhost", 3306);
+    Context context = context("10.6.4-MariaDB", 15L);
+    assertNull(ServerProfile.get(key(host, null), context));
+
+    ServerProfile.put(key(host, null), new ServerProfile(context, 1024, 28800, "UTC", 60));
+    ServerProfile profile = ServerProfile.get(key(host, null), context("10.6.4-MariaDB", 15L));
+    assertNotNull(profile);
+    assertEquals(1024, profile.getMaxAllowedPacket());
+    assertEquals(28800, profile.getWaitTimeout());
+    assertEquals("UTC", profile.getServerTimezone());
+    assertNull(ServerProfile.get(key(HostAddress.from("localhost", 3307), null), context));
+
+    // server changed since profile creation
+    assertNull(ServerProfile.get(key(host, null), context("10.6.4-MariaDB", 31L)));
+    assertNull(ServerProfile.get(key(host, null), context));
+
+    ServerProfile.put(key(host, null), new ServerProfile(context, 1024, 28800, null, 60));
+    assertNull(ServerProfile.get(key(host, null), context("10.6.5-MariaDB", 15L)));
+
+    ServerProfile.put(key(host, null), new ServerProfile(context, 1024, 28800, null, 60));
+    ServerProfile.invalidate(key(host, null));
+    assertNull(ServerProfile.get(key(host, null), context));
+  }
+
+  @Test
+  public void sessionVariables() {
+    ServerProfile.clear();
+    HostAddress host = HostAddress.from("localhost", 3306);
+    Context context = context("10.6.4-MariaDB", 15L);
+    ServerProfile.put(key(host, "wait_timeout=10"), new ServerProfile(context, 1024, 10, null, 60));
+    assertNull(ServerProfile.get(key(host, null), context));
+    assertNull(ServerProfile.get(key(host, "wait_timeout=20"), context));
+    assertEquals(10, ServerProfile.get(key(host, "wait_timeout=10"), context).getWaitTimeout());
+
+    ServerProfile.put(key(host, null), new ServerProfile(context, 1024, 28800, null, 60));
+    assertEquals(28800, ServerProfile.get(key(host, null), context).getWaitTimeout());
+    ServerProfile.invalidate(key(host, "wait_timeout=10"));
+    assertNull(ServerProfile.get(key(host, "wait_timeout=10"), context));
+    assertNotNull(ServerProfile.get(key(host, null), context));
+  }
+
+  @Test
+  public void userAndInteractive() {
+    ServerProfile.clear();
+    HostAddress host = HostAddress.from("localhost", 3306);
+    Context context = context("10.6.4-MariaDB", 15L);
+    ServerProfile.put(
+        new ServerProfile.Key(host, "user", false, null),
+        new ServerProfile(context, 1024, 28800, null, 60));
+    assertNull(ServerProfile.get(new ServerProfile.Key(host, "other", false, null), context));
+    assertNull(ServerProfile.get(new ServerProfile.Key(host, null, false, null), context));
+    assertNull(ServerProfile.get(new ServerProfile.Key(host, "user", true, null), context));
+    assertNotNull(ServerProfile.get(new ServerProfile.Key(host, "user", false, null), context));
+  }
+
+  @Test
+  public void expiration() {
+    ServerProfile.clear();
+    HostAddress host = HostAddress.from("localhost", 3306);
+    Context context = context("10.6.4-MariaDB", 15L);
+    ServerProfile.put(key(host, null), new ServerProfile(context, 1024, 28800, null, 0));
+    assertNull(ServerProfile.get(key(host, null), context));
+  }
+}
@@ -0,0 +1,118 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.unit.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mariadb.jdbc.unit.message.ColumnDefinitionPackets.writeString;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.SQLException;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.Configuration;
+import org.mariadb.jdbc.codec.BinaryRowDecoder;
+import org.mariadb.jdbc.codec.DataType;
+import org.mariadb.jdbc.codec.RowDecoder;
+import org.mariadb.jdbc.codec.TextRowDecoder;
+import org.mariadb.jdbc.codec.list.StringCodec;
+import org.mariadb.jdbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.jdbc.unit.message.ColumnDefinitionPackets;
+
+public class RowDecoderTest {
+
+  private static ColumnDefinitionPacket column(String name, DataType type) {
+    return new ColumnDefinitionPacket(ColumnDefinitionPackets.packet("t", name, type), false);
+  }
+
+  private static ColumnDefinitionPacket[] columns() {
+    return new ColumnDefinitionPacket[] {
+      column("a", DataType.INTEGER),
+      column("b", DataType.VARSTRING),
+      column("c", DataType.INTEGER),
+      column("d", DataType.VARSTRING)
+    };
+  }
+
+  private static void checkRow(RowDecoder decoder) throws SQLException {
+    // out of order access
+    assertEquals("defg", decoder.getValue(4, StringCodec.INSTANCE, null));
+    assertEquals(1, decoder.getIntValue(1));
+    assertEquals(0, decoder.getIntValue(3));
+    assertTrue(decoder.wasNull());
+    assertEquals("abc", decoder.getValue(2, StringCodec.INSTANCE, null));
+    assertFalse(decoder.wasNull());
+    assertEquals("defg", decoder.getValue(4, StringCodec.INSTANCE, null));
+    assertEquals("abc", decoder.getValue(2, StringCodec.INSTANCE, null));
+    assertEquals(1, decoder.getIntValue(1));
+  }
+
+  @Test
+  public void textRow() throws SQLException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(0x55); // data before row
+    writeString(out, "1");
+    writeString(out, "abc");
+    out.write(251);
+    writeString(out, "defg");
+    byte[] row = out.toByteArray();
+
+    RowDecoder decoder =
+        new TextRowDecoder(4, columns(), Configuration.parse("jdbc:mariadb://localhost/"));
+    decoder.setRow(row, 1, row.length - 1);
+    checkRow(decoder);
+
+    // new row resets offsets
+    decoder.setRow(row, 1, row.length - 1);
+    assertEquals("abc", decoder.getValue(2, StringCodec.INSTANCE, null));
+    checkRow(decoder);
+  }
+
+  @Test
+  public void binaryRow() throws SQLException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(0x00); // header
+    out.write(1 << 4); // null bitmap: third column is null
+    out.write(new byte[] {1, 0, 0, 0}, 0, 4);
+    writeString(out, "abc");
+    writeString(out, "defg");
+    byte[] row = out.toByteArray();
+
+    RowDecoder decoder =
+        new BinaryRowDecoder(4, columns(), Configuration.parse("jdbc:mariadb://localhost/"));
+    decoder.setRow(row);
+    checkRow(decoder);
+
+    decoder.setRow(row);
+    assertEquals("abc", decoder.getValue(2, StringCodec.INSTANCE, null));
+    checkRow(decoder);
+  }
+
+  @Test
+  public void stringDictionary() throws SQLException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writeString(out, "1");
+    writeString(out, "abc");
+    out.write(251);
+    writeString(out, "defg");
+    byte[] row = out.toByteArray();
+
+    RowDecoder decoder =
+        new TextRowDecoder(
+            4, columns(), Configuration.parse("jdbc:mariadb://localhost/?stringDictionary=true"));
+    decoder.setRow(row);
+    String first = decoder.getStringValue(2);
+    assertNull(decoder.getStringValue(3));
+    decoder.setRow(row);
+    assertEquals("abc", decoder.getStringValue(2));
+    assertSame(first, decoder.getStringValue(2));
+    assertSame(first, decoder.getValue(2, Object.class, null));
+    assertEquals("defg", decoder.getStringValue(4));
+
+    decoder = new TextRowDecoder(4, columns(), Configuration.parse("jdbc:mariadb://localhost/"));
+    decoder.setRow(row);
+    first = decoder.getStringValue(2);
+    decoder.setRow(row);
+    assertNotSame(first, decoder.getStringValue(2));
+  }
+}
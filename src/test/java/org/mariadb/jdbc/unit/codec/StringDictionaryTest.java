@@ -0,0 +1,58 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.unit.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.client.ReadableByteBuf;
+import org.mariadb.jdbc.codec.StringDictionary;
+
+public class StringDictionaryTest {
+
+  private static String read(StringDictionary dictionary, String value) {
+    byte[] arr = ("#" + value + "#").getBytes(StandardCharsets.UTF_8);
+    ReadableByteBuf buf = new ReadableByteBuf(null, arr, arr.length);
+    buf.skip(1);
+    int length = arr.length - 2;
+    String res = dictionary.readString(buf, length);
+    assertEquals(length + 1, buf.pos());
+    return res;
+  }
+
+  @Test
+  public void repeatedValues() {
+    StringDictionary dictionary = new StringDictionary();
+    String[] statuses = {"active", "inactive", "pending", "€uro", ""};
+    String[] first = new String[statuses.length];
+    for (int i = 0; i < statuses.length; i++) first[i] = read(dictionary, statuses[i]);
+    for (int i = 0; i < 10_000; i++) {
+      int idx = i % statuses.length;
+      String value = read(dictionary, statuses[idx]);
+      assertEquals(statuses[idx], value);
+      assertSame(first[idx], value);
+    }
+    assertTrue(dictionary.isEnabled());
+
+    // long values are not cached
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 100; i++) sb.append('a');
+    String longValue = sb.toString();
+    assertEquals(longValue, read(dictionary, longValue));
+    assertNotSame(read(dictionary, longValue), read(dictionary, longValue));
+  }
+
+  @Test
+  public void highCardinality() {
+    StringDictionary dictionary = new StringDictionary();
+    for (int i = 0; i < 2048; i++) {
+      assertEquals("name" + i, read(dictionary, "name" + i));
+    }
+    assertFalse(dictionary.isEnabled());
+    assertEquals("name1", read(dictionary, "name1"));
+    assertNotSame(read(dictionary, "name1"), read(dictionary, "name1"));
+  }
+}
@@ -0,0 +1,104 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.unit.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.client.ReadableByteBuf;
+import org.mariadb.jdbc.codec.list.BigDecimalCodec;
+import org.mariadb.jdbc.codec.list.LocalDateCodec;
+import org.mariadb.jdbc.codec.list.LocalDateTimeCodec;
+
+public class TextParserTest {
+
+  /** Buffer containing value surrounded by other data, positioned on value. */
+  private static ReadableByteBuf buf(String value) {
+    byte[] arr = ("##" + value + "#").getBytes(StandardCharsets.UTF_8);
+    return new ReadableByteBuf(null, arr, 2, arr.length);
+  }
+
+  private static void checkDecimal(String value) {
+    ReadableByteBuf buf = buf(value);
+    BigDecimal res = BigDecimalCodec.parseDecimal(buf, value.length());
+    assertEquals(new BigDecimal(value), res);
+    assertEquals(new BigDecimal(value).scale(), res.scale());
+    assertEquals(value.length() + 2, buf.pos());
+  }
+
+  @Test
+  public void decimal() {
+    checkDecimal("0");
+    checkDecimal("-0.00");
+    checkDecimal("1.50");
+    checkDecimal("-123456.789");
+    checkDecimal("123456789012345678");
+    checkDecimal("-0.123456789012345678");
+    checkDecimal("999999999999999999.5");
+    checkDecimal("-12345678901234567890.123");
+    checkDecimal("1.5e-7");
+    checkDecimal("-2.25E10");
+    assertThrows(NumberFormatException.class, () -> BigDecimalCodec.parseDecimal(buf("-"), 1));
+  }
+
+  @Test
+  public void timestamp() {
+    String[] values = {
+      "2021-01-03 10:20:30",
+      "2021-01-03 10:20:30.1",
+      "2021-12-31 23:59:59.123456",
+      "1000-01-01 00:00:00.000100",
+      "9999-12-31 23:59:59.999999"
+    };
+    for (String value : values) {
+      ReadableByteBuf buf = buf(value);
+      LocalDateTime res = LocalDateTimeCodec.readStandardTimestamp(buf, value.length());
+      assertEquals(LocalDateTime.parse(value.replace(' ', 'T')), res);
+      assertEquals(value.length() + 2, buf.pos());
+
+      buf = buf(value);
+      int[] parts = LocalDateTimeCodec.parseTimestamp(buf, value.length());
+      assertEquals(
+          res,
+          LocalDateTime.of(parts[0], parts[1], parts[2], parts[3], parts[4], parts[5], parts[6]));
+      assertEquals(value.length() + 2, buf.pos());
+    }
+
+    // not standard, zero-date or invalid values are left to generic parsing
+    for (String value :
+        new String[] {
+          "2021-1-3 10:20:30", "0000-00-00 00:00:00", "0000-00-00 10:00:00", "2021-02-30 00:00:00"
+        }) {
+      ReadableByteBuf buf = buf(value);
+      assertNull(LocalDateTimeCodec.readStandardTimestamp(buf, value.length()));
+      assertEquals(2, buf.pos());
+    }
+    assertNull(LocalDateTimeCodec.parseTimestamp(buf("0000-00-00 00:00:00"), 19));
+    assertArrayEquals(
+        new int[] {0, 1, 1, 10, 0, 0, 0},
+        LocalDateTimeCodec.parseTimestamp(buf("0000-00-00 10:00:00"), 19));
+  }
+
+  @Test
+  public void date() {
+    ReadableByteBuf buf = buf("2021-01-03");
+    assertEquals(LocalDate.of(2021, 1, 3), LocalDateCodec.readStandardDate(buf, 10));
+    assertEquals(12, buf.pos());
+
+    buf = buf("2021-01-03 10:20:30.123");
+    assertEquals(LocalDate.of(2021, 1, 3), LocalDateCodec.readStandardDate(buf, 23));
+    assertEquals(25, buf.pos());
+
+    for (String value : new String[] {"2021-1-3", "0000-00-00", "2021-00-10", "2021-01-03T10"}) {
+      buf = buf(value);
+      assertNull(LocalDateCodec.readStandardDate(buf, value.length()));
+      assertEquals(2, buf.pos());
+    }
+  }
+}
@@ -0,0 +1,41 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.unit.message;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.client.ReadableByteBuf;
+import org.mariadb.jdbc.codec.DataType;
+import org.mariadb.jdbc.message.server.ColumnDefinitionCache;
+import org.mariadb.jdbc.message.server.ColumnDefinitionPacket;
+
+public class ColumnDefinitionCacheTest {
+
+  private static ReadableByteBuf packet(String table, String column) {
+    return ColumnDefinitionPackets.packet(table, column, DataType.INTEGER);
+  }
+
+  @Test
+  public void intern() {
+    ColumnDefinitionCache.clear();
+    ColumnDefinitionPacket col = ColumnDefinitionCache.intern(packet("tbl", "id"), false);
+    assertEquals("tbl", col.getTable());
+    assertEquals("id", col.getColumn());
+    assertEquals("t", col.getTableAlias());
+    assertEquals(DataType.INTEGER, col.getType());
+
+    // identical definition read in another array share same instance
+    assertSame(col, ColumnDefinitionCache.intern(packet("tbl", "id"), false));
+    assertNotSame(col, ColumnDefinitionCache.intern(packet("tbl", "id2"), false));
+    assertEquals(2, ColumnDefinitionCache.size());
+
+    // alias doesn't change shared instance
+    ColumnDefinitionPacket alias = col.useAliasAsName();
+    assertEquals("t", alias.getTable());
+    assertEquals("tbl", col.getTable());
+    ColumnDefinitionCache.clear();
+  }
+}
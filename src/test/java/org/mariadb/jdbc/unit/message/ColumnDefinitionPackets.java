@@ -0,0 +1,52 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2021 MariaDB Corporation Ab
+
+package org.mariadb.jdbc.unit.message;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.mariadb.jdbc.client.ReadableByteBuf;
+import org.mariadb.jdbc.codec.DataType;
+
+/** Build column definition packets for unit tests, without server. */
+public final class ColumnDefinitionPackets {
+
+  private ColumnDefinitionPackets() {}
+
+  /**
+   * Column definition packet content, with table alias "t" in schema "db".
+   *
+   * @param table table name
+   * @param column column name, used as alias too
+   * @param type column data type
+   * @return packet buffer
+   */
+  public static ReadableByteBuf packet(String table, String column, DataType type) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (String s : new String[] {"def", "db", "t", table, column, column}) {
+      writeString(out, s);
+    }
+    out.write(0x0c);
+    out.write(new byte[] {33, 0}, 0, 2); // charset
+    out.write(new byte[] {11, 0, 0, 0}, 0, 4); // length
+    out.write(type.get());
+    out.write(new byte[] {0, 0}, 0, 2); // flags
+    out.write(0); // decimals
+    out.write(new byte[] {0, 0}, 0, 2);
+    byte[] arr = out.toByteArray();
+    return new ReadableByteBuf(null, arr, arr.length);
+  }
+
+  /**
+   * Write length encoded string, for strings shorter than 251 bytes.
+   *
+   * @param out destination
+   * @param s string
+   */
+  public static void writeString(ByteArrayOutputStream out, String s) {
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    out.write(bytes.length);
+    out.write(bytes, 0, bytes.length);
+  }
+}
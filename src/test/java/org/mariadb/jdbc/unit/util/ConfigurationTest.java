@@ -558,6 +558,26 @@ public class ConfigurationTest extends Common {
     assertNotEquals(HostAddress.from("test", 3306, false), host);
   }
 
+  @Test
+  public void testCompressionLevel() throws SQLException {
+    assertEquals(6, Configuration.parse("jdbc:mariadb://localhost/test").compressionLevel());
+    assertEquals(
+        1,
+        Configuration.parse("jdbc:mariadb://localhost/test?compressionLevel=1").compressionLevel());
+    assertThrowsContains(
+        SQLException.class,
+        () -> Configuration.parse("jdbc:mariadb://localhost/test?compressionLevel=10"),
+        "Value for compressionLevel must be in 0-9 range (value is 10)");
+    assertThrowsContains(
+        SQLException.class,
+        () -> Configuration.parse("jdbc:mariadb://localhost/test?compressionLevel=-1"),
+        "Value for compressionLevel must be in 0-9 range (value is -1)");
+    assertThrowsContains(
+        SQLException.class,
+        () -> new Configuration.Builder().compressionLevel(-2).build(),
+        "Value for compressionLevel must be in 0-9 range (value is -2)");
+  }
+
   @Test
   public void testJdbcParserParameterErrorEqual() {
     String wrongIntVal = "jdbc:mariadb://localhost?socketTimeout=blabla";